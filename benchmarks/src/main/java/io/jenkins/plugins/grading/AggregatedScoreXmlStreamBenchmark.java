@@ -0,0 +1,97 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+/**
+ * Measures reading and writing of {@link AggregatedScore} instances with the {@link AggregatedScoreXmlStream} and the
+ * {@link AggregatedScoreBinaryStream}. The size of the created files is printed during the setup of each trial.
+ *
+ * @author Ullrich Hafner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AggregatedScoreXmlStreamBenchmark {
+    @Param({"1", "10", "100"})
+    private int resultsPerMetric;
+
+    @Param({"xml", "binary"})
+    private String format;
+
+    private AggregatedScore score;
+    private Path file;
+
+    /**
+     * Creates the score and writes it to a temporary file.
+     *
+     * @throws IOException
+     *         if the file could not be created
+     */
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        score = SyntheticScores.createScore(resultsPerMetric);
+        file = Files.createTempFile("auto-grading", "." + format);
+        createStream().write(file, score);
+
+        System.out.printf("%nSize of %s file with %d results per metric: %d bytes%n",
+                format, resultsPerMetric, Files.size(file));
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException
+     *         if the file could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Benchmarks reading of the score.
+     *
+     * @return the score
+     */
+    @Benchmark
+    public AggregatedScore read() {
+        return createStream().read(file);
+    }
+
+    /**
+     * Benchmarks writing of the score.
+     */
+    @Benchmark
+    public void write() {
+        createStream().write(file, score);
+    }
+
+    private AggregatedScoreXmlStream createStream() {
+        if ("binary".equals(format)) {
+            return new AggregatedScoreBinaryStream();
+        }
+        return new AggregatedScoreXmlStream();
+    }
+}
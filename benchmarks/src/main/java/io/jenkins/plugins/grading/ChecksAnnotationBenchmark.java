@@ -0,0 +1,64 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.Report;
+
+/**
+ * Measures the creation of the checks annotations in {@link AutoGradingChecksPublisher} for reports of different
+ * sizes.
+ *
+ * @author Ullrich Hafner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ChecksAnnotationBenchmark {
+    private static final int NUMBER_OF_TOOLS = 4;
+
+    @Param({"1000", "100000", "1000000"})
+    private int issues;
+
+    @Param({"1000", "2147483647"})
+    private int maxAnnotations;
+
+    private List<Report> reports;
+
+    /**
+     * Creates the reports with the synthetic issues.
+     */
+    @Setup(Level.Trial)
+    public void createReports() {
+        reports = SyntheticScores.createReports(NUMBER_OF_TOOLS, issues);
+    }
+
+    /**
+     * Benchmarks the creation of all annotations.
+     *
+     * @param blackhole
+     *         consumes the created annotations
+     */
+    @Benchmark
+    public void createAnnotations(final Blackhole blackhole) {
+        blackhole.consume(new AutoGradingChecksPublisher(maxAnnotations).createAnnotations(reports)
+                .createAnnotations());
+    }
+}
@@ -0,0 +1,84 @@
+package io.jenkins.plugins.grading;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the conversion of HTML messages to plain text with the {@link HtmlStripper} and with the previously used
+ * Jsoup DOM.
+ *
+ * @author Ullrich Hafner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HtmlToTextBenchmark {
+    @Param({
+            "Line is longer than 120 characters (found 134).",
+            "Redundant nullcheck of value known to be non-null in <code>AutoGrader.perform(Run)</code>",
+            "<p>Since: PMD 3.0</p><p>Priority: High</p><p>Avoid using implementation types like 'ArrayList'; use the "
+                    + "interface instead.</p><pre><code>private ArrayList list = new ArrayList();</code></pre>"
+                    + "<a href=\"https://pmd.github.io/pmd_rules_java_bestpractices.html#loosecoupling\">"
+                    + "See PMD documentation.</a>"
+    })
+    private String message;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Benchmarks the {@link HtmlStripper}.
+     *
+     * @return the text
+     */
+    @Benchmark
+    public String strip() {
+        buffer.setLength(0);
+        HtmlStripper.appendText(message, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Benchmarks the Jsoup DOM based conversion.
+     *
+     * @return the text
+     */
+    @Benchmark
+    public String parseWithJsoup() {
+        Set<String> contents = new HashSet<>();
+        parseHtml(Jsoup.parse(message), contents);
+        return String.join("\n", contents);
+    }
+
+    private void parseHtml(final Element html, final Set<String> contents) {
+        for (TextNode node : html.textNodes()) {
+            contents.add(node.text().trim());
+        }
+
+        for (Element child : html.children()) {
+            if (child.hasAttr("href")) {
+                contents.add(child.text().trim() + ":" + child.attr("href").trim());
+            }
+            else {
+                parseHtml(child, contents);
+            }
+        }
+    }
+}
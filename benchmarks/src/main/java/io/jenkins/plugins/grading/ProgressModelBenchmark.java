@@ -0,0 +1,54 @@
+package io.jenkins.plugins.grading;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the creation of the progress chart models in {@link AutoGradingViewModel}. The detail view renders five
+ * progress charts for each page view.
+ *
+ * @author Ullrich Hafner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgressModelBenchmark {
+    private AutoGradingViewModel model;
+
+    /**
+     * Creates the view model.
+     */
+    @Setup
+    public void createModel() {
+        model = new AutoGradingViewModel(null, SyntheticScores.createScore(10));
+    }
+
+    /**
+     * Benchmarks the creation of the progress models for a page view of the detail view.
+     *
+     * @param blackhole
+     *         consumes the created models
+     */
+    @Benchmark
+    public void renderPage(final Blackhole blackhole) {
+        blackhole.consume(model.getProgressModel(model.getScore().getRatio()));
+        blackhole.consume(model.getProgressModel(model.getScore().getTestRatio()));
+        blackhole.consume(model.getProgressModel(model.getScore().getCoverageRatio()));
+        blackhole.consume(model.getProgressModel(model.getScore().getPitRatio()));
+        blackhole.consume(model.getProgressModel(model.getScore().getAnalysisRatio()));
+    }
+}
@@ -0,0 +1,186 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.mockito.MockSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jenkinsci.plugins.pitmutation.PitBuildAction;
+import org.jenkinsci.plugins.pitmutation.targets.MutationStats;
+import org.jenkinsci.plugins.pitmutation.targets.ProjectMutations;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.tasks.junit.TestResultAction;
+
+import io.jenkins.plugins.analysis.core.model.AnalysisResult;
+import io.jenkins.plugins.analysis.core.model.ResultAction;
+import io.jenkins.plugins.analysis.core.model.StaticAnalysisLabelProvider;
+import io.jenkins.plugins.coverage.CoverageAction;
+import io.jenkins.plugins.coverage.targets.CoverageElement;
+import io.jenkins.plugins.coverage.targets.CoverageResult;
+import io.jenkins.plugins.coverage.targets.Ratio;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures {@link AutoGrader#perform} for a build with synthetic results, i.e., the parsing of the configuration, the
+ * scoring of the results of the static analysis, test, coverage, and mutation coverage plugins, and the persistence of
+ * the scores in the build folder. The build and the recorded results of the other plugins are stub-only mocks, so no
+ * running Jenkins is required and the invocations of the mocks are not recorded. The publishing of the checks is
+ * skipped: the creation of the annotations is measured by {@link ChecksAnnotationBenchmark}.
+ *
+ * @author Ullrich Hafner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoringBenchmark {
+    @Param({"1", "10", "100"})
+    private int resultsPerMetric;
+
+    @Param({"false", "true"})
+    private boolean parallelScoring;
+
+    private Path buildFolder;
+    private Run<?, ?> run;
+    private FilePath workspace;
+    private Launcher launcher;
+    private AutoGrader autoGrader;
+
+    /**
+     * Creates the build with the synthetic results of the static analysis, test, coverage, and mutation coverage
+     * plugins.
+     *
+     * @throws IOException
+     *         if the build folder could not be created
+     */
+    @Setup(Level.Trial)
+    public void createBuild() throws IOException {
+        buildFolder = Files.createTempDirectory("autograding-build");
+        workspace = new FilePath(buildFolder.toFile());
+        launcher = mock(Launcher.class, stubOnly());
+
+        run = mock(Run.class, stubOnly());
+        when(run.getRootDir()).thenReturn(buildFolder.toFile());
+        when(run.getActions(ResultAction.class)).thenReturn(createAnalysisActions(resultsPerMetric));
+        when(run.getActions(CoverageAction.class)).thenReturn(createCoverageActions(resultsPerMetric));
+        TestResultAction testResultAction = createTestResultAction();
+        when(run.getAction(TestResultAction.class)).thenReturn(testResultAction);
+        PitBuildAction pitBuildAction = createPitBuildAction();
+        when(run.getAction(PitBuildAction.class)).thenReturn(pitBuildAction);
+
+        autoGrader = new AutoGrader(SyntheticScores.CONFIGURATION);
+        autoGrader.setParallelScoring(parallelScoring);
+        autoGrader.setSkipPublishingChecks(true);
+    }
+
+    /**
+     * Deletes the build folder.
+     *
+     * @throws IOException
+     *         if the build folder could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteBuild() throws IOException {
+        FileUtils.deleteDirectory(buildFolder.toFile());
+    }
+
+    /**
+     * Benchmarks the grading of the build.
+     *
+     * @throws InterruptedException
+     *         if the grading has been interrupted
+     */
+    @Benchmark
+    public void perform() throws InterruptedException {
+        autoGrader.perform(run, workspace, launcher, TaskListener.NULL);
+    }
+
+    private static MockSettings stubOnly() {
+        return withSettings().stubOnly();
+    }
+
+    private List<ResultAction> createAnalysisActions(final int size) {
+        List<ResultAction> actions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            AnalysisResult result = mock(AnalysisResult.class, stubOnly());
+            when(result.getId()).thenReturn("tool" + i);
+            when(result.getTotalErrorsSize()).thenReturn(i % 3);
+            when(result.getTotalHighPrioritySize()).thenReturn(i % 5);
+            when(result.getTotalNormalPrioritySize()).thenReturn(i % 7);
+            when(result.getTotalLowPrioritySize()).thenReturn(i % 11);
+
+            ResultAction action = mock(ResultAction.class, stubOnly());
+            when(action.getResult()).thenReturn(result);
+            when(action.getLabelProvider()).thenReturn(new StaticAnalysisLabelProvider("tool" + i, "Tool " + i));
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    private List<CoverageAction> createCoverageActions(final int size) {
+        List<CoverageAction> actions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<CoverageElement, Ratio> results = new LinkedHashMap<>();
+            results.put(CoverageElement.LINE, Ratio.create(i * 7 % 101, 100));
+            results.put(CoverageElement.CONDITIONAL, Ratio.create(i * 3 % 101, 100));
+
+            CoverageResult result = mock(CoverageResult.class, stubOnly());
+            when(result.getResults()).thenReturn(Collections.unmodifiableMap(results));
+
+            CoverageAction action = mock(CoverageAction.class, stubOnly());
+            when(action.getResult()).thenReturn(result);
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    private TestResultAction createTestResultAction() {
+        TestResultAction action = mock(TestResultAction.class, stubOnly());
+        when(action.getDisplayName()).thenReturn("Tests");
+        when(action.getTotalCount()).thenReturn(100 + resultsPerMetric);
+        when(action.getFailCount()).thenReturn(resultsPerMetric % 4);
+        when(action.getSkipCount()).thenReturn(resultsPerMetric % 2);
+        return action;
+    }
+
+    private PitBuildAction createPitBuildAction() {
+        MutationStats stats = mock(MutationStats.class, stubOnly());
+        when(stats.getTotalMutations()).thenReturn(200 + resultsPerMetric);
+        when(stats.getUndetected()).thenReturn(resultsPerMetric % 50);
+
+        ProjectMutations mutations = mock(ProjectMutations.class, stubOnly());
+        when(mutations.getMutationStats()).thenReturn(stats);
+
+        PitBuildAction action = mock(PitBuildAction.class, stubOnly());
+        when(action.getReport()).thenReturn(mutations);
+        when(action.getDisplayName()).thenReturn("Mutations");
+        return action;
+    }
+}
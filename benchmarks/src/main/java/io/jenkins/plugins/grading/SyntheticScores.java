@@ -0,0 +1,195 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
+import edu.hm.hafner.grading.AnalysisSupplier;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.CoverageScore.CoverageScoreBuilder;
+import edu.hm.hafner.grading.CoverageSupplier;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.PitScore.PitScoreBuilder;
+import edu.hm.hafner.grading.PitSupplier;
+import edu.hm.hafner.grading.TestConfiguration;
+import edu.hm.hafner.grading.TestScore;
+import edu.hm.hafner.grading.TestScore.TestScoreBuilder;
+import edu.hm.hafner.grading.TestSupplier;
+import edu.hm.hafner.util.FilteredLog;
+
+/**
+ * Creates synthetic inputs for the benchmarks.
+ *
+ * @author Ullrich Hafner
+ */
+final class SyntheticScores {
+    /** A configuration that enables all metrics. */
+    static final String CONFIGURATION = "{"
+            + "\"analysis\":{\"maxScore\":100,\"errorImpact\":-10,\"highImpact\":-5,\"normalImpact\":-2,\"lowImpact\":-1},"
+            + "\"tests\":{\"maxScore\":100,\"passedImpact\":1,\"failureImpact\":-5,\"skippedImpact\":-1},"
+            + "\"coverage\":{\"maxScore\":100,\"coveredPercentageImpact\":1,\"missedPercentageImpact\":-1},"
+            + "\"pit\":{\"maxScore\":100,\"detectedImpact\":1,\"undetectedImpact\":-1,"
+            + "\"detectedPercentageImpact\":0,\"undetectedPercentageImpact\":0}}";
+
+    private static final Severity[] SEVERITIES = {Severity.ERROR, Severity.WARNING_HIGH,
+            Severity.WARNING_NORMAL, Severity.WARNING_LOW};
+
+    private SyntheticScores() {
+        // prevents instantiation
+    }
+
+    /**
+     * Creates a new score that contains the specified number of results for each metric.
+     *
+     * @param size
+     *         the number of results per metric
+     *
+     * @return the score
+     */
+    static AggregatedScore createScore(final int size) {
+        AggregatedScore score = new AggregatedScore(CONFIGURATION, new FilteredLog("Benchmark"));
+        score.addAnalysisScores(new SyntheticAnalysisSupplier(size));
+        score.addTestScores(new SyntheticTestSupplier(size));
+        score.addCoverageScores(new SyntheticCoverageSupplier(size));
+        score.addPitScores(new SyntheticPitSupplier(size));
+        return score;
+    }
+
+    /**
+     * Creates the specified number of reports that contain {@code issues} issues in total.
+     *
+     * @param reports
+     *         the number of reports
+     * @param issues
+     *         the total number of issues
+     *
+     * @return the reports
+     */
+    static List<Report> createReports(final int reports, final int issues) {
+        List<Report> result = new ArrayList<>();
+        IssueBuilder builder = new IssueBuilder();
+        for (int r = 0; r < reports; r++) {
+            Report report = new Report();
+            for (int i = r; i < issues; i += reports) {
+                report.add(builder.setFileName("src/main/java/edu/hm/hafner/File" + i % 997 + ".java")
+                        .setLineStart(i % 500 + 1)
+                        .setLineEnd(i % 500 + 1)
+                        .setColumnStart(1)
+                        .setColumnEnd(10)
+                        .setType("Type" + i % 50)
+                        .setOrigin("tool" + r)
+                        .setSeverity(SEVERITIES[i % SEVERITIES.length])
+                        .setMessage(createMessage(i))
+                        .setDescription("Description")
+                        .build());
+            }
+            result.add(report);
+        }
+        return result;
+    }
+
+    private static String createMessage(final int index) {
+        if (index % 2 == 0) {
+            return "Line is longer than 120 characters (found " + (index % 100 + 121) + ").";
+        }
+        return "<p>Avoid using implementation types like <code>ArrayList</code>; use the interface instead.</p>"
+                + "<a href=\"https://pmd.github.io/latest/pmd_rules_java_bestpractices.html#loosecoupling\">"
+                + "See PMD documentation.</a>";
+    }
+
+    private static class SyntheticAnalysisSupplier extends AnalysisSupplier {
+        private final int size;
+
+        SyntheticAnalysisSupplier(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected List<AnalysisScore> createScores(final AnalysisConfiguration configuration) {
+            List<AnalysisScore> scores = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                scores.add(new AnalysisScoreBuilder().withConfiguration(configuration)
+                        .withId("tool" + i)
+                        .withDisplayName("Tool " + i)
+                        .withTotalErrorsSize(i % 3)
+                        .withTotalHighSeveritySize(i % 5)
+                        .withTotalNormalSeveritySize(i % 7)
+                        .withTotalLowSeveritySize(i % 11)
+                        .build());
+            }
+            return scores;
+        }
+    }
+
+    private static class SyntheticTestSupplier extends TestSupplier {
+        private final int size;
+
+        SyntheticTestSupplier(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected List<TestScore> createScores(final TestConfiguration configuration) {
+            List<TestScore> scores = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                scores.add(new TestScoreBuilder().withConfiguration(configuration)
+                        .withDisplayName("Tests " + i)
+                        .withTotalSize(100 + i)
+                        .withFailedSize(i % 4)
+                        .withSkippedSize(i % 2)
+                        .build());
+            }
+            return scores;
+        }
+    }
+
+    private static class SyntheticCoverageSupplier extends CoverageSupplier {
+        private final int size;
+
+        SyntheticCoverageSupplier(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected List<CoverageScore> createScores(final CoverageConfiguration configuration) {
+            List<CoverageScore> scores = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                scores.add(new CoverageScoreBuilder().withConfiguration(configuration)
+                        .withId("coverage" + i)
+                        .withDisplayName("Coverage " + i)
+                        .withCoveredPercentage(i * 7 % 101)
+                        .build());
+            }
+            return scores;
+        }
+    }
+
+    private static class SyntheticPitSupplier extends PitSupplier {
+        private final int size;
+
+        SyntheticPitSupplier(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected List<PitScore> createScores(final PitConfiguration configuration) {
+            List<PitScore> scores = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                scores.add(new PitScoreBuilder().withConfiguration(configuration)
+                        .withDisplayName("Mutations " + i)
+                        .withTotalMutations(200 + i)
+                        .withUndetectedMutations(i % 50)
+                        .build());
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package io.jenkins.plugins.grading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.CoverageScore.CoverageScoreBuilder;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.PitScore.PitScoreBuilder;
+import edu.hm.hafner.grading.TestConfiguration;
+import edu.hm.hafner.grading.TestScore;
+import edu.hm.hafner.grading.TestScore.TestScoreBuilder;
+import edu.hm.hafner.util.FilteredLog;
+
+/**
+ * Reads and writes {@link AggregatedScore} instances using a compact binary format. The file starts with a header that
+ * consists of a magic number and the format version. The header is followed by the configuration and the scores of
+ * each category (analysis, tests, coverage, and mutation coverage) and by the info and error messages of the log.
+ * Files that do not start with this header are read
+ * as XML files using the {@link AggregatedScoreXmlStream}. If the binary file does not exist, then the XML file
+ * {@value #XML_FILE_NAME} in the same folder is read. So the results of builds that have been recorded before the
+ * binary format has been introduced are still available.
+ *
+ * <p>
+ * The format does not depend on the class layout of the grading model: only the input values of the configurations
+ * and scores are stored, the scores are created again using the builders of the model when the file is read. Each
+ * configuration and each score is stored as a length prefixed record, so a reader skips the values that have been
+ * appended to a record by a later version of the format. Since the grading model logs its messages again while the
+ * scores are created, the log of the restored score ignores these messages and contains the stored messages only.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class AggregatedScoreBinaryStream extends AggregatedScoreXmlStream {
+    /** The file name of the XML files that have been written before the binary format has been introduced. */
+    static final String XML_FILE_NAME = "auto-grading.xml";
+
+    private static final Logger LOGGER = Logger.getLogger(AggregatedScoreBinaryStream.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final byte[] MAGIC = {'A', 'G', 'B', 'S'};
+    private static final int VERSION = 2;
+    private static final String MAX_SCORE = "maxScore";
+
+    @Override
+    public AggregatedScore read(final Path file) {
+        if (!Files.exists(file)) {
+            return super.read(file.resolveSibling(XML_FILE_NAME));
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!hasHeader(input)) {
+                return super.read(file);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version);
+            }
+            return readScore(input);
+        }
+        catch (IOException | IllegalArgumentException exception) {
+            LOGGER.log(Level.SEVERE, "Failed to read scores from " + file, exception);
+
+            return createDefaultValue();
+        }
+    }
+
+    @Override
+    public void write(final Path file, final AggregatedScore score) {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.write(MAGIC);
+            output.writeInt(VERSION);
+            writeScore(output, score);
+        }
+        catch (IOException exception) {
+            LOGGER.log(Level.SEVERE, "Failed to write scores to " + file, exception);
+        }
+    }
+
+    private void writeScore(final DataOutput output, final AggregatedScore score) throws IOException {
+        AnalysisConfiguration analysis = score.getAnalysisConfiguration();
+        writeRecord(output, record -> {
+            record.writeInt(analysis.getMaxScore());
+            record.writeInt(analysis.getErrorImpact());
+            record.writeInt(analysis.getHighImpact());
+            record.writeInt(analysis.getNormalImpact());
+            record.writeInt(analysis.getLowImpact());
+        });
+        output.writeInt(score.getAnalysisScores().size());
+        for (AnalysisScore analysisScore : score.getAnalysisScores()) {
+            writeRecord(output, record -> {
+                record.writeUTF(analysisScore.getId());
+                record.writeUTF(analysisScore.getName());
+                record.writeInt(analysisScore.getErrorsSize());
+                record.writeInt(analysisScore.getHighSeveritySize());
+                record.writeInt(analysisScore.getNormalSeveritySize());
+                record.writeInt(analysisScore.getLowSeveritySize());
+            });
+        }
+
+        TestConfiguration tests = score.getTestConfiguration();
+        writeRecord(output, record -> {
+            record.writeInt(tests.getMaxScore());
+            record.writeInt(tests.getPassedImpact());
+            record.writeInt(tests.getFailureImpact());
+            record.writeInt(tests.getSkippedImpact());
+        });
+        output.writeInt(score.getTestScores().size());
+        for (TestScore testScore : score.getTestScores()) {
+            writeRecord(output, record -> {
+                record.writeUTF(testScore.getName());
+                record.writeInt(testScore.getTotalSize());
+                record.writeInt(testScore.getFailedSize());
+                record.writeInt(testScore.getSkippedSize());
+            });
+        }
+
+        CoverageConfiguration coverage = score.getCoverageConfiguration();
+        writeRecord(output, record -> {
+            record.writeInt(coverage.getMaxScore());
+            record.writeInt(coverage.getCoveredPercentageImpact());
+            record.writeInt(coverage.getMissedPercentageImpact());
+        });
+        output.writeInt(score.getCoverageScores().size());
+        for (CoverageScore coverageScore : score.getCoverageScores()) {
+            writeRecord(output, record -> {
+                record.writeUTF(coverageScore.getId());
+                record.writeUTF(coverageScore.getName());
+                record.writeInt(coverageScore.getCoveredPercentage());
+            });
+        }
+
+        PitConfiguration pit = score.getPitConfiguration();
+        writeRecord(output, record -> {
+            record.writeInt(pit.getMaxScore());
+            record.writeInt(pit.getDetectedImpact());
+            record.writeInt(pit.getUndetectedImpact());
+            record.writeInt(pit.getDetectedPercentageImpact());
+            record.writeInt(pit.getUndetectedPercentageImpact());
+        });
+        output.writeInt(score.getPitScores().size());
+        for (PitScore pitScore : score.getPitScores()) {
+            writeRecord(output, record -> {
+                record.writeUTF(pitScore.getName());
+                record.writeInt(pitScore.getMutationsSize());
+                record.writeInt(pitScore.getUndetectedSize());
+            });
+        }
+
+        writeMessages(output, score.getInfoMessages());
+        writeMessages(output, score.getErrorMessages());
+    }
+
+    private void writeMessages(final DataOutput output, final Collection<String> messages) throws IOException {
+        output.writeInt(messages.size());
+        for (String message : messages) {
+            writeRecord(output, record -> {
+                byte[] bytes = message.getBytes(StandardCharsets.UTF_8); // writeUTF is limited to 64 KB
+                record.writeInt(bytes.length);
+                record.write(bytes);
+            });
+        }
+    }
+
+    private AggregatedScore readScore(final DataInput input) throws IOException {
+        ObjectNode configuration = MAPPER.createObjectNode();
+
+        DataInput analysis = readRecord(input);
+        configuration.putObject("analysis")
+                .put(MAX_SCORE, analysis.readInt())
+                .put("errorImpact", analysis.readInt())
+                .put("highImpact", analysis.readInt())
+                .put("normalImpact", analysis.readInt())
+                .put("lowImpact", analysis.readInt());
+        List<DataInput> analysisScores = readRecords(input);
+
+        DataInput tests = readRecord(input);
+        configuration.putObject("tests")
+                .put(MAX_SCORE, tests.readInt())
+                .put("passedImpact", tests.readInt())
+                .put("failureImpact", tests.readInt())
+                .put("skippedImpact", tests.readInt());
+        List<DataInput> testScores = readRecords(input);
+
+        DataInput coverage = readRecord(input);
+        configuration.putObject("coverage")
+                .put(MAX_SCORE, coverage.readInt())
+                .put("coveredPercentageImpact", coverage.readInt())
+                .put("missedPercentageImpact", coverage.readInt());
+        List<DataInput> coverageScores = readRecords(input);
+
+        DataInput pit = readRecord(input);
+        configuration.putObject("pit")
+                .put(MAX_SCORE, pit.readInt())
+                .put("detectedImpact", pit.readInt())
+                .put("undetectedImpact", pit.readInt())
+                .put("detectedPercentageImpact", pit.readInt())
+                .put("undetectedPercentageImpact", pit.readInt());
+        List<DataInput> pitScores = readRecords(input);
+
+        RestoredLog log = new RestoredLog(readMessages(input), readMessages(input));
+        AggregatedScore score = new AggregatedScore(configuration.toString(), log);
+        try {
+            ScoreCollector.sequential().collect(score,
+                    config -> createScores(analysisScores, record -> new AnalysisScoreBuilder()
+                            .withConfiguration(config)
+                            .withId(record.readUTF())
+                            .withDisplayName(record.readUTF())
+                            .withTotalErrorsSize(record.readInt())
+                            .withTotalHighSeveritySize(record.readInt())
+                            .withTotalNormalSeveritySize(record.readInt())
+                            .withTotalLowSeveritySize(record.readInt())
+                            .build()),
+                    config -> createScores(testScores, record -> new TestScoreBuilder()
+                            .withConfiguration(config)
+                            .withDisplayName(record.readUTF())
+                            .withTotalSize(record.readInt())
+                            .withFailedSize(record.readInt())
+                            .withSkippedSize(record.readInt())
+                            .build()),
+                    config -> createScores(coverageScores, record -> new CoverageScoreBuilder()
+                            .withConfiguration(config)
+                            .withId(record.readUTF())
+                            .withDisplayName(record.readUTF())
+                            .withCoveredPercentage(record.readInt())
+                            .build()),
+                    config -> createScores(pitScores, record -> new PitScoreBuilder()
+                            .withConfiguration(config)
+                            .withDisplayName(record.readUTF())
+                            .withTotalMutations(record.readInt())
+                            .withUndetectedMutations(record.readInt())
+                            .build()));
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the scores");
+        }
+        catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        return score;
+    }
+
+    private List<String> readMessages(final DataInput input) throws IOException {
+        List<String> messages = new ArrayList<>();
+        for (DataInput record : readRecords(input)) {
+            int length = record.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid message length " + length);
+            }
+            byte[] bytes = new byte[length];
+            record.readFully(bytes);
+            messages.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return messages;
+    }
+
+    private <S> List<S> createScores(final List<DataInput> records, final ScoreReader<S> reader) {
+        List<S> scores = new ArrayList<>();
+        for (DataInput record : records) {
+            try {
+                scores.add(reader.read(record));
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return scores;
+    }
+
+    private void writeRecord(final DataOutput output, final RecordWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream record = new DataOutputStream(bytes)) {
+            writer.write(record);
+        }
+        output.writeInt(bytes.size());
+        output.write(bytes.toByteArray());
+    }
+
+    private DataInput readRecord(final DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid record length " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private List<DataInput> readRecords(final DataInput input) throws IOException {
+        int count = input.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid number of scores " + count);
+        }
+        List<DataInput> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(readRecord(input));
+        }
+        return records;
+    }
+
+    private boolean hasHeader(final InputStream input) throws IOException {
+        input.mark(MAGIC.length);
+        byte[] header = new byte[MAGIC.length];
+        int read = 0;
+        while (read < header.length) {
+            int count = input.read(header, read, header.length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        if (read == header.length && Arrays.equals(header, MAGIC)) {
+            return true;
+        }
+        input.reset();
+        return false;
+    }
+
+    /**
+     * The log of a restored score. The log contains the stored messages only: the messages that the grading model logs
+     * while the scores are created again are ignored.
+     */
+    private static class RestoredLog extends FilteredLog {
+        private static final long serialVersionUID = 1L;
+
+        RestoredLog(final List<String> infoMessages, final List<String> errorMessages) {
+            super(AutoGrader.LOG_TITLE, Integer.MAX_VALUE);
+
+            for (String message : infoMessages) {
+                super.logInfo("%s", message);
+            }
+            // the title is added again by the first error
+            int first = !errorMessages.isEmpty() && AutoGrader.LOG_TITLE.equals(errorMessages.get(0)) ? 1 : 0;
+            for (String message : errorMessages.subList(first, errorMessages.size())) {
+                super.logError("%s", message);
+            }
+        }
+
+        @Override
+        public void logInfo(final String format, final Object... args) {
+            // ignore the messages of the grading model
+        }
+
+        @Override
+        public void logError(final String format, final Object... args) {
+            // ignore the messages of the grading model
+        }
+
+        @Override
+        public void logException(final Exception exception, final String format, final Object... args) {
+            // ignore the messages of the grading model
+        }
+    }
+
+    /**
+     * Writes the values of a record.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutput record) throws IOException;
+    }
+
+    /**
+     * Creates a score from the values of a record.
+     *
+     * @param <S>
+     *         the type of the score
+     */
+    @FunctionalInterface
+    private interface ScoreReader<S> {
+        S read(DataInput record) throws IOException;
+    }
+}
@@ -0,0 +1,123 @@
+package io.jenkins.plugins.grading;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.model.Run;
+
+import io.jenkins.plugins.analysis.core.model.AnalysisResult;
+import io.jenkins.plugins.analysis.core.model.ResultAction;
+
+/**
+ * A snapshot of the result of a single {@link ResultAction}. The action and its result are resolved only once: the
+ * totals are read eagerly, while the {@link Report} with the issues is loaded lazily, i.e. the issues are read from
+ * disk only if they are actually requested.
+ *
+ * @author Ullrich Hafner
+ */
+class AnalysisResultSnapshot {
+    private final String id;
+    private final String name;
+    private final int totalErrorsSize;
+    private final int totalHighSeveritySize;
+    private final int totalNormalSeveritySize;
+    private final int totalLowSeveritySize;
+
+    private final AnalysisResult result;
+    @CheckForNull
+    private Report report;
+
+    /**
+     * Creates snapshots of all {@link ResultAction} instances of the specified run.
+     *
+     * @param run
+     *         the run to get the results from
+     *
+     * @return the snapshots
+     */
+    static List<AnalysisResultSnapshot> of(final Run<?, ?> run) {
+        return run.getActions(ResultAction.class)
+                .stream()
+                .map(AnalysisResultSnapshot::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a view of the reports of the specified snapshots. Each report is loaded when the corresponding element
+     * of the list is accessed for the first time.
+     *
+     * @param snapshots
+     *         the snapshots to get the reports from
+     *
+     * @return the reports
+     */
+    static List<Report> getReports(final List<AnalysisResultSnapshot> snapshots) {
+        return new AbstractList<Report>() {
+            @Override
+            public Report get(final int index) {
+                return snapshots.get(index).getReport();
+            }
+
+            @Override
+            public int size() {
+                return snapshots.size();
+            }
+        };
+    }
+
+    AnalysisResultSnapshot(final ResultAction action) {
+        result = action.getResult();
+        id = result.getId();
+        name = action.getLabelProvider().getName();
+        totalErrorsSize = result.getTotalErrorsSize();
+        totalHighSeveritySize = result.getTotalHighPrioritySize();
+        totalNormalSeveritySize = result.getTotalNormalPrioritySize();
+        totalLowSeveritySize = result.getTotalLowPrioritySize();
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the report with the issues of the static analysis tool. The report is loaded on first access.
+     *
+     * @return the report
+     */
+    synchronized Report getReport() {
+        if (report == null) {
+            report = result.getIssues();
+        }
+        return report;
+    }
+
+    /**
+     * Creates the score for this result using the specified configuration.
+     *
+     * @param configuration
+     *         the grading configuration
+     *
+     * @return the score
+     */
+    AnalysisScore createScore(final AnalysisConfiguration configuration) {
+        return new AnalysisScoreBuilder().withConfiguration(configuration)
+                .withId(id)
+                .withDisplayName(name)
+                .withTotalErrorsSize(totalErrorsSize)
+                .withTotalHighSeveritySize(totalHighSeveritySize)
+                .withTotalNormalSeveritySize(totalNormalSeveritySize)
+                .withTotalLowSeveritySize(totalLowSeveritySize)
+                .build();
+    }
+}
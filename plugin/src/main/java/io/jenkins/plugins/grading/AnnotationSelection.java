@@ -0,0 +1,348 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import io.jenkins.plugins.checks.api.ChecksAnnotation;
+
+/**
+ * Selects the issues of several reports that should be published as {@link ChecksAnnotation checks annotations}. The
+ * reports are traversed only once: at most {@code maxAnnotations} issues are retained, errors and high severity
+ * warnings are preferred over warnings with lower severities. So the memory that is required for the annotations depends
+ * on {@code maxAnnotations} only, not on the number of issues. The selected issues are converted to annotations on
+ * demand.
+ *
+ * <p>
+ * Optionally, duplicates are merged: issues at the same location with the same deduplication key (e.g., the same
+ * message) that are reported by several tools are collapsed into a single annotation that lists the origins of all
+ * merged issues. The issue with the highest severity represents the merged issues. Since the deduplication key might
+ * be expensive to compute, the key is computed only for issues that share their location with a selected issue.
+ * </p>
+ *
+ * @param <T>
+ *         the type of the annotations
+ * @author Ullrich Hafner
+ */
+class AnnotationSelection<T> {
+    private static final Comparator<Candidate> PRIORITY = Comparator.comparingInt(Candidate::getRank)
+            .thenComparingLong(Candidate::getSequence);
+
+    private final Candidate[] selection;
+    private final int totalSize;
+    private final int mergedSize;
+    private final BiFunction<Issue, Collection<String>, T> converter;
+
+    /**
+     * Creates a new instance of {@link AnnotationSelection} that does not merge duplicates.
+     *
+     * @param reports
+     *         the reports with the issues to annotate
+     * @param maxAnnotations
+     *         the maximum number of annotations to create
+     * @param converter
+     *         converts a selected issue to an annotation
+     */
+    AnnotationSelection(final Iterable<Report> reports, final int maxAnnotations,
+            final Function<Issue, T> converter) {
+        this(reports, maxAnnotations, null, (issue, origins) -> converter.apply(issue));
+    }
+
+    /**
+     * Creates a new instance of {@link AnnotationSelection}.
+     *
+     * @param reports
+     *         the reports with the issues to annotate
+     * @param maxAnnotations
+     *         the maximum number of annotations to create
+     * @param deduplicationKey
+     *         returns the key of an issue, issues at the same location with the same key are merged; if the key is
+     *         {@code null}, then the issue will not be merged. The key is computed only for issues that share their
+     *         location with a selected issue. If the function is {@code null}, then duplicates will not be merged.
+     * @param converter
+     *         converts a selected issue and the origins of all merged issues to an annotation
+     */
+    AnnotationSelection(final Iterable<Report> reports, final int maxAnnotations,
+            @CheckForNull final Function<Issue, String> deduplicationKey,
+            final BiFunction<Issue, Collection<String>, T> converter) {
+        this.converter = converter;
+
+        PriorityQueue<Candidate> retained = new PriorityQueue<>(PRIORITY.reversed());
+        Map<Location, List<Candidate>> retainedByLocation = new HashMap<>();
+        boolean deduplicate = deduplicationKey != null && maxAnnotations > 0;
+        long sequence = 0;
+        for (Report report : reports) {
+            for (Issue issue : report) {
+                Location location = deduplicate ? new Location(issue) : null;
+                Candidate duplicate = deduplicate ? findDuplicate(retainedByLocation.get(location), issue,
+                        deduplicationKey) : null;
+                if (duplicate != null) {
+                    merge(retained, duplicate, issue);
+                    sequence++;
+                    continue;
+                }
+
+                Candidate candidate = new Candidate(issue, sequence++, location);
+                if (retained.size() < maxAnnotations) {
+                    add(retained, retainedByLocation, candidate);
+                }
+                else if (!retained.isEmpty() && PRIORITY.compare(candidate, retained.peek()) < 0) {
+                    remove(retainedByLocation, retained.poll());
+                    add(retained, retainedByLocation, candidate);
+                }
+            }
+        }
+        totalSize = (int) sequence;
+        selection = retained.toArray(new Candidate[0]);
+        Arrays.sort(selection, PRIORITY);
+        mergedSize = Arrays.stream(selection).mapToInt(Candidate::getDuplicates).sum();
+    }
+
+    @CheckForNull
+    private Candidate findDuplicate(@CheckForNull final List<Candidate> sameLocation, final Issue issue,
+            final Function<Issue, String> deduplicationKey) {
+        if (sameLocation == null) {
+            return null;
+        }
+        String key = deduplicationKey.apply(issue);
+        if (key == null) {
+            return null;
+        }
+        for (Candidate candidate : sameLocation) {
+            if (key.equals(candidate.getKey(deduplicationKey))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void add(final PriorityQueue<Candidate> retained, final Map<Location, List<Candidate>> retainedByLocation,
+            final Candidate candidate) {
+        retained.add(candidate);
+        if (candidate.getLocation() != null) {
+            retainedByLocation.computeIfAbsent(candidate.getLocation(), location -> new ArrayList<>(1))
+                    .add(candidate);
+        }
+    }
+
+    private void remove(final Map<Location, List<Candidate>> retainedByLocation, final Candidate evicted) {
+        List<Candidate> sameLocation = retainedByLocation.get(evicted.getLocation());
+        if (sameLocation != null) {
+            sameLocation.remove(evicted);
+            if (sameLocation.isEmpty()) {
+                retainedByLocation.remove(evicted.getLocation());
+            }
+        }
+    }
+
+    private void merge(final PriorityQueue<Candidate> retained, final Candidate duplicate, final Issue issue) {
+        if (rank(issue.getSeverity()) < duplicate.getRank()) {
+            retained.remove(duplicate); // the priority changes
+            duplicate.merge(issue);
+            retained.add(duplicate);
+        }
+        else {
+            duplicate.merge(issue);
+        }
+    }
+
+    /**
+     * Returns the number of issues in all reports.
+     *
+     * @return the number of issues
+     */
+    int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Returns the number of annotations that will be created. Merged duplicates are counted as a single annotation.
+     *
+     * @return the number of annotations
+     */
+    int getSelectedSize() {
+        return selection.length;
+    }
+
+    /**
+     * Returns the number of issues that have been merged into the annotation of a duplicate issue.
+     *
+     * @return the number of merged issues
+     */
+    int getMergedSize() {
+        return mergedSize;
+    }
+
+    /**
+     * Returns the number of issues that are neither annotated nor merged since the maximum number of annotations has
+     * been reached.
+     *
+     * @return the number of skipped issues
+     */
+    int getTruncatedSize() {
+        return totalSize - selection.length - mergedSize;
+    }
+
+    /**
+     * Creates the annotations of the selected issues. The issues are converted on each invocation, so the annotations
+     * are held in memory only while they are used.
+     *
+     * @return the annotations
+     */
+    List<T> createAnnotations() {
+        List<T> annotations = new ArrayList<>(selection.length);
+        for (Candidate candidate : selection) {
+            annotations.add(converter.apply(candidate.getIssue(), candidate.getOrigins()));
+        }
+        return annotations;
+    }
+
+    /**
+     * Returns the rank of the specified severity: errors have the smallest rank, low severity warnings the highest.
+     *
+     * @param severity
+     *         the severity to rank
+     *
+     * @return the rank of the severity
+     */
+    static int rank(final Severity severity) {
+        if (Severity.ERROR.equals(severity)) {
+            return 0;
+        }
+        if (Severity.WARNING_HIGH.equals(severity)) {
+            return 1;
+        }
+        if (Severity.WARNING_NORMAL.equals(severity)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * An issue that is a candidate for an annotation.
+     */
+    private static class Candidate {
+        private final long sequence;
+        @CheckForNull
+        private final Location location;
+        private final Set<String> origins = new LinkedHashSet<>();
+        private Issue issue;
+        private int rank;
+        private int duplicates;
+        private boolean hasKey;
+        @CheckForNull
+        private String key;
+
+        Candidate(final Issue issue, final long sequence, @CheckForNull final Location location) {
+            this.issue = issue;
+            this.sequence = sequence;
+            this.location = location;
+            rank = rank(issue.getSeverity());
+            addOrigin(issue);
+        }
+
+        void merge(final Issue duplicate) {
+            duplicates++;
+            addOrigin(duplicate);
+            int duplicateRank = rank(duplicate.getSeverity());
+            if (duplicateRank < rank) {
+                issue = duplicate;
+                rank = duplicateRank;
+            }
+        }
+
+        private void addOrigin(final Issue origin) {
+            if (StringUtils.isNotBlank(origin.getOrigin())) {
+                origins.add(origin.getOrigin());
+            }
+        }
+
+        Issue getIssue() {
+            return issue;
+        }
+
+        @CheckForNull
+        Location getLocation() {
+            return location;
+        }
+
+        /**
+         * Returns the deduplication key of the candidate. The key is computed on the first invocation only, i.e.,
+         * before any duplicate has been merged.
+         */
+        @CheckForNull
+        String getKey(final Function<Issue, String> deduplicationKey) {
+            if (!hasKey) {
+                key = deduplicationKey.apply(issue);
+                hasKey = true;
+            }
+            return key;
+        }
+
+        Collection<String> getOrigins() {
+            return origins;
+        }
+
+        int getDuplicates() {
+            return duplicates;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        int getRank() {
+            return rank;
+        }
+    }
+
+    /**
+     * The location of an issue in the source code. Only issues at the same location are compared by their
+     * deduplication key.
+     */
+    private static class Location {
+        private final String fileName;
+        private final int lineStart;
+        private final int lineEnd;
+
+        Location(final Issue issue) {
+            fileName = issue.getFileName();
+            lineStart = issue.getLineStart();
+            lineEnd = issue.getLineEnd();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Location location = (Location) o;
+            return lineStart == location.lineStart && lineEnd == location.lineEnd
+                    && fileName.equals(location.fileName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * fileName.hashCode() + lineStart) + lineEnd;
+        }
+    }
+}
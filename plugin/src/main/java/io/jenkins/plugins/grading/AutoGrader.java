@@ -1,10 +1,24 @@
 package io.jenkins.plugins.grading; // NOPMD
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
 import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
 import edu.hm.hafner.util.FilteredLog;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
 import org.jenkinsci.Symbol;
 import hudson.Extension;
 import hudson.FilePath;
@@ -15,8 +29,11 @@ import hudson.model.TaskListener;
 import hudson.tasks.BuildStepDescriptor;
 import hudson.tasks.Publisher;
 import hudson.tasks.Recorder;
+import hudson.util.FormValidation;
 import jenkins.tasks.SimpleBuildStep;
 
+import io.jenkins.plugins.coverage.targets.CoverageElementRegister;
+import io.jenkins.plugins.grading.GradingMetrics.Phase;
 import io.jenkins.plugins.util.LogHandler;
 
 /**
@@ -29,6 +46,14 @@ import io.jenkins.plugins.util.LogHandler;
 public class AutoGrader extends Recorder implements SimpleBuildStep {
     static final String LOG_TITLE = "Autograding Jenkins build results";
     private final String configuration;
+    private Integer maxAnnotations;
+    private boolean parallelScoring;
+    private boolean publishChecksAsynchronously;
+    private boolean skipPublishingChecks;
+    private boolean annotateChangedFilesOnly;
+    private boolean mergeDuplicateAnnotations;
+    private boolean incrementalScoring;
+    private String coverageMetrics;
 
     /**
      * Creates a new instance of {@link AutoGrader}.
@@ -47,25 +72,196 @@ public class AutoGrader extends Recorder implements SimpleBuildStep {
         return configuration;
     }
 
+    /**
+     * Sets the maximum number of issues that will be published as annotations. If the analysis results contain more
+     * issues, then errors and warnings with a high severity are preferred.
+     *
+     * @param maxAnnotations
+     *         the maximum number of annotations
+     */
+    @DataBoundSetter
+    public void setMaxAnnotations(final int maxAnnotations) {
+        this.maxAnnotations = Math.max(0, maxAnnotations);
+    }
+
+    public int getMaxAnnotations() {
+        if (maxAnnotations == null) {
+            return AutoGradingChecksPublisher.DEFAULT_MAX_ANNOTATIONS;
+        }
+        return maxAnnotations;
+    }
+
+    /**
+     * Enables or disables the concurrent collection of the scores. If enabled, then the results of the static analysis,
+     * test, coverage, and mutation coverage plugins will be loaded in parallel.
+     *
+     * @param parallelScoring
+     *         determines whether the scores should be collected concurrently
+     */
+    @DataBoundSetter
+    public void setParallelScoring(final boolean parallelScoring) {
+        this.parallelScoring = parallelScoring;
+    }
+
+    public boolean isParallelScoring() {
+        return parallelScoring;
+    }
+
+    /**
+     * Enables or disables the asynchronous publishing of the checks. If enabled, then the step does not wait until the
+     * checks have been published to the SCM provider.
+     *
+     * @param publishChecksAsynchronously
+     *         determines whether the checks should be published asynchronously
+     */
+    @DataBoundSetter
+    public void setPublishChecksAsynchronously(final boolean publishChecksAsynchronously) {
+        this.publishChecksAsynchronously = publishChecksAsynchronously;
+    }
+
+    public boolean isPublishChecksAsynchronously() {
+        return publishChecksAsynchronously;
+    }
+
+    /**
+     * Enables or disables the publishing of the checks. If disabled, then the issues of the static analysis tools will
+     * not be read from disk at all.
+     *
+     * @param skipPublishingChecks
+     *         determines whether publishing of the checks should be skipped
+     */
+    @DataBoundSetter
+    public void setSkipPublishingChecks(final boolean skipPublishingChecks) {
+        this.skipPublishingChecks = skipPublishingChecks;
+    }
+
+    public boolean isSkipPublishingChecks() {
+        return skipPublishingChecks;
+    }
+
+    /**
+     * Enables or disables the restriction of the annotations to changed files. If enabled, then only issues in files
+     * that are part of the change sets of the build will be published as annotations.
+     *
+     * @param annotateChangedFilesOnly
+     *         determines whether only issues in changed files should be annotated
+     */
+    @DataBoundSetter
+    public void setAnnotateChangedFilesOnly(final boolean annotateChangedFilesOnly) {
+        this.annotateChangedFilesOnly = annotateChangedFilesOnly;
+    }
+
+    public boolean isAnnotateChangedFilesOnly() {
+        return annotateChangedFilesOnly;
+    }
+
+    /**
+     * Enables or disables the merging of duplicate annotations. If enabled, then issues of different tools with the
+     * same location and message will be published as a single annotation.
+     *
+     * @param mergeDuplicateAnnotations
+     *         determines whether duplicate issues should be merged into a single annotation
+     */
+    @DataBoundSetter
+    public void setMergeDuplicateAnnotations(final boolean mergeDuplicateAnnotations) {
+        this.mergeDuplicateAnnotations = mergeDuplicateAnnotations;
+    }
+
+    public boolean isMergeDuplicateAnnotations() {
+        return mergeDuplicateAnnotations;
+    }
+
+    /**
+     * Enables or disables the incremental scoring. If enabled, then the coverage and mutation coverage scores of the
+     * previous build will be reused if the corresponding results did not change.
+     *
+     * @param incrementalScoring
+     *         determines whether unchanged scores of the previous build should be reused
+     */
+    @DataBoundSetter
+    public void setIncrementalScoring(final boolean incrementalScoring) {
+        this.incrementalScoring = incrementalScoring;
+    }
+
+    public boolean isIncrementalScoring() {
+        return incrementalScoring;
+    }
+
+    /**
+     * Sets the coverage metrics that will be graded. The metrics are specified as a comma separated list of names of
+     * coverage elements, e.g. {@code Line, Conditional, Method}.
+     *
+     * @param coverageMetrics
+     *         the names of the coverage metrics
+     */
+    @DataBoundSetter
+    public void setCoverageMetrics(final String coverageMetrics) {
+        this.coverageMetrics = coverageMetrics;
+    }
+
+    public String getCoverageMetrics() {
+        if (StringUtils.isBlank(coverageMetrics)) {
+            return JenkinsCoverageSupplier.DEFAULT_METRICS;
+        }
+        return coverageMetrics;
+    }
+
     @Override
     public void perform(@NonNull final Run<?, ?> run, @NonNull final FilePath workspace,
-            @NonNull final Launcher launcher, @NonNull final TaskListener listener) {
+            @NonNull final Launcher launcher, @NonNull final TaskListener listener) throws InterruptedException {
         FilteredLog log = new FilteredLog(LOG_TITLE);
+        GradingMetricsRecorder metrics = GradingMetricsRecorder.create();
+        metrics.increment(GradingMetrics.BUILDS);
 
-        AggregatedScore score = new AggregatedScore(configuration, log);
+        // the configuration is not cached: the model parses it in the constructor and a score can't be created
+        // from parsed configuration objects, so a cache of parsed configurations would not save any parsing
+        AggregatedScore score = metrics.time(Phase.CONFIGURATION, () -> new AggregatedScore(configuration, log));
         JenkinsAnalysisSupplier analysisScores = new JenkinsAnalysisSupplier(run);
-        score.addAnalysisScores(analysisScores);
-        score.addTestScores(new JenkinsTestSupplier(run));
-        score.addCoverageScores(new JenkinsCoverageSupplier(run));
-        score.addPitScores(new JenkinsPitSupplier(run));
+        Function<CoverageConfiguration, List<CoverageScore>> coverageScores
+                = new JenkinsCoverageSupplier(run, getCoverageMetrics(), log)::createScores;
+        Function<PitConfiguration, List<PitScore>> pitScores = new JenkinsPitSupplier(run)::createScores;
+        Map<String, String> fingerprints = Collections.emptyMap();
+        if (incrementalScoring) {
+            // the selected coverage metrics are part of the configuration of the coverage scores
+            IncrementalScoring incremental = new IncrementalScoring(run,
+                    configuration + '\n' + getCoverageMetrics(), log);
+            coverageScores = incremental.coverage(coverageScores);
+            pitScores = incremental.pit(pitScores);
+            fingerprints = incremental.getFingerprints();
+            for (String category : fingerprints.keySet()) {
+                if (incremental.isReused(category)) {
+                    metrics.increment(GradingMetrics.REUSED_SCORES);
+                }
+            }
+        }
+
+        ScoreCollector collector = parallelScoring ? ScoreCollector.concurrent() : ScoreCollector.sequential();
+        collector.collect(score,
+                metrics.timed(Phase.ANALYSIS, analysisScores::createScores),
+                metrics.timed(Phase.TESTS, new JenkinsTestSupplier(run)::createScores),
+                metrics.timed(Phase.COVERAGE, coverageScores),
+                metrics.timed(Phase.PIT, pitScores));
 
         LogHandler logHandler = new LogHandler(listener, "Autograding");
         logHandler.log(log);
 
-        run.addAction(new AutoGradingBuildAction(run, score));
+        Map<String, String> inputs = fingerprints;
+        metrics.time(Phase.PERSISTENCE, () -> run.addAction(new AutoGradingBuildAction(run, score, inputs)));
+
+        if (skipPublishingChecks) {
+            listener.getLogger().println("[Autograding] Skipping publishing of checks");
+            return;
+        }
 
-        AutoGradingChecksPublisher checksPublisher = new AutoGradingChecksPublisher();
-        checksPublisher.publishChecks(run, listener, score, analysisScores.getReports());
+        AutoGradingChecksPublisher checksPublisher = new AutoGradingChecksPublisher(getMaxAnnotations(),
+                annotateChangedFilesOnly, mergeDuplicateAnnotations, metrics);
+        ChecksContent content = checksPublisher.render(run, listener, score, analysisScores.getReports());
+        if (publishChecksAsynchronously) {
+            checksPublisher.publishChecksAsynchronously(run, listener, content, ChecksPublishingQueue.get());
+        }
+        else {
+            checksPublisher.publishChecks(run, listener, content);
+        }
     }
 
     @Override
@@ -88,5 +284,24 @@ public class AutoGrader extends Recorder implements SimpleBuildStep {
         public boolean isApplicable(final Class<? extends AbstractProject> jobType) {
             return true;
         }
+
+        /**
+         * Performs on-the-fly validation of the coverage metrics. All names must be names of coverage elements that
+         * are registered in the code coverage plugin.
+         *
+         * @param coverageMetrics
+         *         the comma separated list of the names of the coverage metrics
+         *
+         * @return the validation result
+         */
+        public FormValidation doCheckCoverageMetrics(@QueryParameter final String coverageMetrics) {
+            List<String> knownMetrics = Arrays.asList(CoverageElementRegister.listAllTypes());
+            List<String> unknownMetrics = JenkinsCoverageSupplier.getUnknownMetrics(coverageMetrics, knownMetrics);
+            if (unknownMetrics.isEmpty()) {
+                return FormValidation.ok();
+            }
+            return FormValidation.error(Messages.Validation_UnknownCoverageMetrics(
+                    String.join(", ", unknownMetrics), String.join(", ", knownMetrics)));
+        }
     }
 }
@@ -1,5 +1,12 @@
 package io.jenkins.plugins.grading;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import edu.hm.hafner.grading.AggregatedScore;
 import edu.hm.hafner.util.VisibleForTesting;
 
@@ -17,6 +24,11 @@ import io.jenkins.plugins.util.BuildAction;
  */
 public class AutoGradingBuildAction extends BuildAction<AggregatedScore> implements StaplerProxy {
     private static final long serialVersionUID = -1165416468486465651L;
+    private static final Logger LOGGER = Logger.getLogger(AutoGradingBuildAction.class.getName());
+
+    private ScoreSummary summary; // since 3.1.0; null for builds that have been recorded before
+    private Map<String, String> fingerprints; // since 3.1.0; null for builds that have been recorded before
+    private transient boolean inMemoryOnly;
 
     /**
      * Creates a new instance of {@link AutoGradingBuildAction}.
@@ -27,17 +39,60 @@ public class AutoGradingBuildAction extends BuildAction<AggregatedScore> impleme
      *         score instance where all results are saved
      */
     public AutoGradingBuildAction(final Run<?, ?> owner, final AggregatedScore score) {
-        this(owner, score, true);
+        this(owner, score, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new instance of {@link AutoGradingBuildAction}.
+     *
+     * @param owner
+     *         the associated build that created the scores
+     * @param score
+     *         score instance where all results are saved
+     * @param fingerprints
+     *         the fingerprints of the inputs of the scores, see {@link IncrementalScoring}
+     */
+    AutoGradingBuildAction(final Run<?, ?> owner, final AggregatedScore score,
+            final Map<String, String> fingerprints) {
+        this(owner, score, fingerprints, true);
     }
 
     @VisibleForTesting
     AutoGradingBuildAction(final Run<?, ?> owner, final AggregatedScore score, final boolean canSerialize) {
+        this(owner, score, Collections.emptyMap(), canSerialize);
+    }
+
+    private AutoGradingBuildAction(final Run<?, ?> owner, final AggregatedScore score,
+            final Map<String, String> fingerprints, final boolean canSerialize) {
         super(owner, score, canSerialize);
+
+        inMemoryOnly = !canSerialize;
+
+        summary = ScoreSummary.of(score);
+        this.fingerprints = new HashMap<>(fingerprints);
+    }
+
+    /**
+     * Returns the scores of the build. The scores are read from the build folder and the {@link ResultCache} holds the
+     * only strong reference to the loaded scores, so the memory used by the scores of all builds is bounded.
+     *
+     * @return the scores
+     */
+    @Override
+    public AggregatedScore getResult() {
+        if (inMemoryOnly) {
+            return super.getResult();
+        }
+        return ResultCache.get().getResult(getOwner().getExternalizableId(), this::readResult);
+    }
+
+    private AggregatedScore readResult() {
+        return createXmlStream().read(getOwner().getRootDir().toPath().resolve(getBuildResultBaseName()));
     }
 
     @Override
     protected AggregatedScoreXmlStream createXmlStream() {
-        return new AggregatedScoreXmlStream();
+        return new AggregatedScoreBinaryStream();
     }
 
     @Override
@@ -47,7 +102,7 @@ public class AutoGradingBuildAction extends BuildAction<AggregatedScore> impleme
 
     @Override
     protected String getBuildResultBaseName() {
-        return "auto-grading.xml";
+        return "auto-grading.bin";
     }
 
     @Override
@@ -75,13 +130,55 @@ public class AutoGradingBuildAction extends BuildAction<AggregatedScore> impleme
         return AutoGradingJobAction.ID;
     }
 
+    /**
+     * Returns a summary of the scores. The summary is stored in the {@code build.xml} file of the build, so the full
+     * results need to be read only for builds that have been recorded by an older version of the plugin. For these
+     * builds, the summary is computed once and then stored in the {@code build.xml} file as well.
+     *
+     * @return the summary of the scores
+     */
+    public ScoreSummary getSummary() {
+        ScoreSummary current = summary;
+        if (current == null) {
+            current = ScoreSummary.of(getResult());
+            summary = current;
+            saveSummary();
+        }
+        return current;
+    }
+
+    private void saveSummary() {
+        Run<?, ?> owner = getOwner();
+        if (inMemoryOnly || owner.isBuilding()) {
+            return; // a running build is saved when it has been completed
+        }
+        try {
+            owner.save();
+        }
+        catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Can't store the score summary of " + owner.getExternalizableId(), exception);
+        }
+    }
+
+    /**
+     * Returns the fingerprints of the inputs of the scores, mapped by category.
+     *
+     * @return the fingerprints of the inputs
+     */
+    Map<String, String> getFingerprints() {
+        if (fingerprints == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
     @SuppressWarnings("unused")
     public int getAchieved() {
-        return getResult().getAchieved();
+        return getSummary().getAchieved();
     }
 
     @SuppressWarnings("unused")
     public int getTotal() {
-        return getResult().getTotal();
+        return getSummary().getTotal();
     }
 }
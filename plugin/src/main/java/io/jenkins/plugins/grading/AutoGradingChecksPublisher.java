@@ -1,22 +1,31 @@
 package io.jenkins.plugins.grading;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Collectors;
-
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Element;
-import org.jsoup.nodes.TextNode;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.grading.AggregatedScore;
 import edu.hm.hafner.grading.GradingReport;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import hudson.scm.ChangeLogSet;
+import hudson.scm.ChangeLogSet.Entry;
+import hudson.util.StreamTaskListener;
+import jenkins.scm.RunWithSCM;
 
 import io.jenkins.plugins.checks.api.ChecksAnnotation;
 import io.jenkins.plugins.checks.api.ChecksAnnotation.ChecksAnnotationBuilder;
@@ -28,6 +37,7 @@ import io.jenkins.plugins.checks.api.ChecksOutput.ChecksOutputBuilder;
 import io.jenkins.plugins.checks.api.ChecksPublisher;
 import io.jenkins.plugins.checks.api.ChecksPublisherFactory;
 import io.jenkins.plugins.checks.api.ChecksStatus;
+import io.jenkins.plugins.grading.GradingMetrics.Phase;
 import io.jenkins.plugins.util.JenkinsFacade;
 
 /**
@@ -36,38 +46,330 @@ import io.jenkins.plugins.util.JenkinsFacade;
  * @author Ullrich Hafner
  */
 class AutoGradingChecksPublisher {
-    void publishChecks(final Run<?, ?> run, final TaskListener listener,
+    /** Default maximum number of annotations that will be published. */
+    static final int DEFAULT_MAX_ANNOTATIONS = 1000;
+
+    private static final Logger LOGGER = Logger.getLogger(AutoGradingChecksPublisher.class.getName());
+
+    /**
+     * The message that the GitHub checks publisher logs if a publication fails. The checks API does not report the
+     * result of a publication, and the publisher catches the exceptions of the GitHub API.
+     */
+    private static final String GITHUB_PUBLISHING_FAILURE = "Failed Publishing GitHub checks";
+    private static final HtmlToTextConverter HTML_CONVERTER = new HtmlToTextConverter();
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int maxAnnotations;
+    private final boolean changedFilesOnly;
+    private final boolean mergeDuplicates;
+    private final ChecksTextBudget textBudget = new ChecksTextBudget();
+    private final GradingMetricsRecorder metrics;
+
+    /**
+     * Creates a new instance of {@link AutoGradingChecksPublisher} that publishes at most {@link
+     * #DEFAULT_MAX_ANNOTATIONS} annotations.
+     */
+    AutoGradingChecksPublisher() {
+        this(DEFAULT_MAX_ANNOTATIONS);
+    }
+
+    /**
+     * Creates a new instance of {@link AutoGradingChecksPublisher}.
+     *
+     * @param maxAnnotations
+     *         the maximum number of annotations to publish
+     */
+    AutoGradingChecksPublisher(final int maxAnnotations) {
+        this(maxAnnotations, false);
+    }
+
+    /**
+     * Creates a new instance of {@link AutoGradingChecksPublisher}.
+     *
+     * @param maxAnnotations
+     *         the maximum number of annotations to publish
+     * @param changedFilesOnly
+     *         determines whether only issues in the files of the change sets of the build should be annotated
+     */
+    AutoGradingChecksPublisher(final int maxAnnotations, final boolean changedFilesOnly) {
+        this(maxAnnotations, changedFilesOnly, GradingMetricsRecorder.none());
+    }
+
+    /**
+     * Creates a new instance of {@link AutoGradingChecksPublisher}.
+     *
+     * @param maxAnnotations
+     *         the maximum number of annotations to publish
+     * @param changedFilesOnly
+     *         determines whether only issues in the files of the change sets of the build should be annotated
+     * @param metrics
+     *         the recorder for the durations of rendering and publishing the checks
+     */
+    AutoGradingChecksPublisher(final int maxAnnotations, final boolean changedFilesOnly,
+            final GradingMetricsRecorder metrics) {
+        this(maxAnnotations, changedFilesOnly, false, metrics);
+    }
+
+    /**
+     * Creates a new instance of {@link AutoGradingChecksPublisher}.
+     *
+     * @param maxAnnotations
+     *         the maximum number of annotations to publish
+     * @param changedFilesOnly
+     *         determines whether only issues in the files of the change sets of the build should be annotated
+     * @param mergeDuplicates
+     *         determines whether issues of different tools with the same location and message should be merged into
+     *         a single annotation
+     * @param metrics
+     *         the recorder for the durations of rendering and publishing the checks
+     */
+    AutoGradingChecksPublisher(final int maxAnnotations, final boolean changedFilesOnly,
+            final boolean mergeDuplicates, final GradingMetricsRecorder metrics) {
+        this.maxAnnotations = maxAnnotations;
+        this.changedFilesOnly = changedFilesOnly;
+        this.mergeDuplicates = mergeDuplicates;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Renders the content of the checks. The checks are always rendered on the controller: the results of the static
+     * analysis, test, coverage, and mutation coverage plugins are stored in the build folder on the controller, so an
+     * agent would need to receive all reports via remoting in order to do the comparatively cheap message conversion.
+     *
+     * @param run
+     *         the run to render the checks for
+     * @param listener
+     *         the task listener of the run
+     * @param score
+     *         the score to publish
+     * @param warnings
+     *         the reports of the static analysis tools
+     *
+     * @return the rendered content
+     */
+    ChecksContent render(final Run<?, ?> run, final TaskListener listener,
             final AggregatedScore score, final List<Report> warnings) {
-        ChecksPublisher publisher = ChecksPublisherFactory.fromRun(run, listener);
+        return metrics.time(Phase.CHECKS_RENDERING,
+                () -> render(listener, score, warnings, getChangedFiles(run), getDetailsUrl(run)));
+    }
 
+    /**
+     * Renders the content of the checks.
+     *
+     * @param listener
+     *         the task listener of the run
+     * @param score
+     *         the score to publish
+     * @param warnings
+     *         the reports of the static analysis tools
+     * @param changedFiles
+     *         the changed files, or {@code null} if issues in all files should be annotated
+     * @param detailsUrl
+     *         the URL of the complete results in Jenkins
+     *
+     * @return the rendered content
+     */
+    ChecksContent render(final TaskListener listener, final AggregatedScore score, final List<Report> warnings,
+            @CheckForNull final Collection<String> changedFiles, final String detailsUrl) {
         GradingReport report = new GradingReport();
 
-        ChecksDetails details = new ChecksDetailsBuilder()
+        AnnotationSelection<ChecksAnnotation> annotations
+                = createAnnotations(selectIssues(listener, warnings, changedFiles));
+        if (annotations.getMergedSize() > 0) {
+            listener.getLogger().printf("[Autograding] Merging %d duplicate issues into the annotations of other "
+                    + "tools%n", annotations.getMergedSize());
+        }
+        if (annotations.getTruncatedSize() > 0) {
+            listener.getLogger().printf("[Autograding] Skipping %d of %d issues since at most %d annotations will be "
+                    + "published%n", annotations.getTruncatedSize(), annotations.getTotalSize(), maxAnnotations);
+        }
+
+        String details = report.getDetails(score, Collections.emptyList(), warnings);
+        String text = textBudget.fit(details, detailsUrl);
+        if (text.length() < details.length()) {
+            listener.getLogger().printf("[Autograding] Truncating details from %d to %d characters%n",
+                    details.length(), text.length());
+        }
+
+        return new ChecksContent(report.getHeader(), report.getSummary(score), text, annotations);
+    }
+
+    /**
+     * Publishes the rendered checks.
+     *
+     * @param run
+     *         the run to publish the checks for
+     * @param listener
+     *         the task listener of the run
+     * @param content
+     *         the rendered content of the checks
+     */
+    void publishChecks(final Run<?, ?> run, final TaskListener listener, final ChecksContent content) {
+        publish(ChecksPublisherFactory.fromRun(run, listener), content);
+    }
+
+    /**
+     * Publishes the rendered checks asynchronously using the specified queue. If the queue is full, then the checks
+     * are published immediately. Retries of the queue reuse the rendered content.
+     *
+     * <p>
+     * Since the checks API does not report the outcome of a publication, the queued publication captures the output
+     * that the SCM provider writes to its listener: SCM providers like the GitHub checks plugin do not throw an
+     * exception if the publication fails, they just log the failure. The captured output is written to the system
+     * log since the build log might already be closed. If the output reports a failure, then the publication is
+     * retried by the queue.
+     * </p>
+     *
+     * @param run
+     *         the run to publish the checks for
+     * @param listener
+     *         the task listener of the run
+     * @param content
+     *         the rendered content of the checks
+     * @param queue
+     *         the queue to submit the publication to
+     */
+    void publishChecksAsynchronously(final Run<?, ?> run, final TaskListener listener, final ChecksContent content,
+            final ChecksPublishingQueue queue) {
+        String key = run.getExternalizableId();
+        if (queue.submit(key,
+                () -> publishAndVerify(key, output -> ChecksPublisherFactory.fromRun(run, output),
+                        publisher -> publish(publisher, content)))) {
+            listener.getLogger().println("[Autograding] Queued publishing of checks, "
+                    + "the result will be reported in the system log");
+            metrics.increment(GradingMetrics.QUEUED_CHECKS);
+        }
+        else {
+            publishChecks(run, listener, content);
+        }
+    }
+
+    /**
+     * Runs the specified publication and verifies that the publication succeeded. A publication fails if it throws an
+     * exception or if the publisher logs its known failure message. Other messages in the log of the publisher are
+     * not evaluated.
+     *
+     * @param key
+     *         the key of the build in the system log
+     * @param publisherFactory
+     *         creates the publisher for the specified listener
+     * @param publication
+     *         the publication to run with the created publisher
+     *
+     * @throws IllegalStateException
+     *         if the publication failed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    void publishAndVerify(final String key, final Function<TaskListener, ChecksPublisher> publisherFactory,
+            final Consumer<ChecksPublisher> publication) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            publication.accept(publisherFactory.apply(new StreamTaskListener(output, StandardCharsets.UTF_8)));
+        }
+        catch (RuntimeException exception) {
+            metrics.increment(GradingMetrics.FAILED_CHECKS);
+            throw exception;
+        }
+
+        String log = new String(output.toByteArray(), StandardCharsets.UTF_8).trim();
+        if (!log.isEmpty()) {
+            LOGGER.log(Level.INFO, "Publishing checks for {0}: {1}", new Object[] {key, log});
+        }
+        if (log.contains(GITHUB_PUBLISHING_FAILURE)) {
+            metrics.increment(GradingMetrics.FAILED_CHECKS);
+            throw new IllegalStateException("Publishing checks for " + key + " failed: " + log);
+        }
+    }
+
+    /**
+     * Returns the files of the change sets of the specified run.
+     *
+     * @param run
+     *         the run to get the change sets from
+     *
+     * @return the changed files, or {@code null} if all files should be annotated
+     */
+    @CheckForNull
+    private Set<String> getChangedFiles(final Run<?, ?> run) {
+        if (!changedFilesOnly) {
+            return null;
+        }
+        Set<String> files = new LinkedHashSet<>();
+        if (run instanceof RunWithSCM) {
+            for (ChangeLogSet<? extends Entry> changeSet : ((RunWithSCM<?, ?>) run).getChangeSets()) {
+                for (Entry entry : changeSet) {
+                    files.addAll(entry.getAffectedPaths());
+                }
+            }
+        }
+        return files;
+    }
+
+    private String getDetailsUrl(final Run<?, ?> run) {
+        return new JenkinsFacade().getAbsoluteUrl(run.getUrl() + AutoGradingJobAction.ID);
+    }
+
+    private void publish(final ChecksPublisher publisher, final ChecksContent content) {
+        metrics.time(Phase.CHECKS_PUBLISHING, () -> publisher.publish(createDetails(content)));
+    }
+
+    /**
+     * Creates the details of the check. All selected annotations are part of a single check: the SCM provider
+     * splits the annotations into batches that fit the limits of its API.
+     */
+    private ChecksDetails createDetails(final ChecksContent content) {
+        return new ChecksDetailsBuilder()
                 .withName("Autograding")
                 .withStatus(ChecksStatus.COMPLETED)
                 .withConclusion(ChecksConclusion.SUCCESS)
                 .withOutput(new ChecksOutputBuilder()
-                        .withTitle(report.getHeader())
-                        .withSummary(report.getSummary(score))
-                        .withText(report.getDetails(score, Collections.emptyList(), warnings))
-                        .withAnnotations(createAnnotations(warnings))
+                        .withTitle(content.getTitle())
+                        .withSummary(content.getSummary())
+                        .withText(content.getText())
+                        .withAnnotations(content.getAnnotations())
                         .build())
                 .withDetailsURL(new JenkinsFacade().getAbsoluteUrl(AutoGradingJobAction.ID))
                 .build();
+    }
+
+    private List<Report> selectIssues(final TaskListener listener, final List<Report> warnings,
+            @CheckForNull final Collection<String> changedFiles) {
+        if (changedFiles == null) {
+            return warnings;
+        }
+        IssueIndex index = new IssueIndex(warnings);
+        Report selected = index.select(changedFiles);
+        listener.getLogger().printf("[Autograding] Annotating %d of %d issues in %d changed files%n",
+                selected.size(), index.size(), changedFiles.size());
+        return Collections.singletonList(selected);
+    }
 
-        publisher.publish(details);
+    AnnotationSelection<ChecksAnnotation> createAnnotations(final List<Report> reports) {
+        return new AnnotationSelection<>(reports, maxAnnotations,
+                mergeDuplicates ? this::createDeduplicationKey : null, this::createContent);
     }
 
-    private List<ChecksAnnotation> createAnnotations(final List<Report> reports) {
-        return reports.stream().flatMap(Report::stream).map(this::createAnnotation).collect(Collectors.toList());
+    /**
+     * Creates the key that identifies duplicates: issues of different tools at the same location with the same
+     * message (ignoring case, punctuation, and markup) will be merged into a single annotation. The location is
+     * compared by the {@link AnnotationSelection}.
+     */
+    private String createDeduplicationKey(final Issue warning) {
+        String message = HTML_CONVERTER.toText(warning.getMessage()).toLowerCase(Locale.ENGLISH);
+        return NON_WORD_CHARACTERS.matcher(message).replaceAll(" ").trim();
     }
 
-    private ChecksAnnotation createAnnotation(final Issue warning) {
+    private ChecksAnnotation createContent(final Issue warning, final Collection<String> origins) {
+        StringBuilder message = new StringBuilder();
+        message.append(warning.getSeverity()).append(":\n").append(HTML_CONVERTER.toText(warning.getMessage()));
+        if (origins.size() > 1) {
+            message.append("\nReported by: ").append(String.join(", ", origins));
+        }
         ChecksAnnotationBuilder builder = new ChecksAnnotationBuilder()
                 .withPath(warning.getFileName())
                 .withTitle(warning.getType())
                 .withAnnotationLevel(ChecksAnnotationLevel.WARNING)
-                .withMessage(warning.getSeverity() + ":\n" + parseHtml(warning.getMessage()))
+                .withMessage(message.toString())
                 .withStartLine(warning.getLineStart())
                 .withEndLine(warning.getLineEnd())
                 .withRawDetails(warning.getDescription());
@@ -78,25 +380,4 @@ class AutoGradingChecksPublisher {
         }
         return builder.build();
     }
-
-    private String parseHtml(final String html) {
-        Set<String> contents = new HashSet<>();
-        parseHtml(Jsoup.parse(html), contents);
-        return String.join("\n", contents);
-    }
-
-    private void parseHtml(final Element html, final Set<String> contents) {
-        for (TextNode node : html.textNodes()) {
-            contents.add(node.text().trim());
-        }
-
-        for (Element child : html.children()) {
-            if (child.hasAttr("href")) {
-                contents.add(child.text().trim() + ":" + child.attr("href").trim());
-            }
-            else {
-                parseHtml(child, contents);
-            }
-        }
-    }
 }
@@ -1,9 +1,14 @@
 package io.jenkins.plugins.grading;
 
+import java.util.List;
+
+import edu.hm.hafner.echarts.JacksonFacade;
 import edu.hm.hafner.grading.AggregatedScore;
 
+import org.kohsuke.stapler.bind.JavaScriptMethod;
 import hudson.model.Job;
 
+import io.jenkins.plugins.grading.ScoreTrendCache.BuildScore;
 import io.jenkins.plugins.util.JobAction;
 
 /**
@@ -18,6 +23,9 @@ public class AutoGradingJobAction extends JobAction<AutoGradingBuildAction> {
 
     static final String ID = "autograding";
 
+    private static final JacksonFacade JACKSON_FACADE = new JacksonFacade();
+    private static final ScoreTrendCache TRENDS = new ScoreTrendCache(ScoreTrendCache.DEFAULT_MAX_BUILDS);
+
     /**
      * Creates a new instance of {@link AutoGradingJobAction}.
      *
@@ -28,6 +36,16 @@ public class AutoGradingJobAction extends JobAction<AutoGradingBuildAction> {
         super(owner, AutoGradingBuildAction.class);
     }
 
+    /**
+     * Removes the cached trend of the specified job, e.g. after the scores of some builds have been changed.
+     *
+     * @param job
+     *         the job to remove the trend for
+     */
+    static void invalidateTrend(final Job<?, ?> job) {
+        TRENDS.invalidate(job);
+    }
+
     @Override
     public String getDisplayName() {
         return Messages.Action_Name();
@@ -42,4 +60,34 @@ public class AutoGradingJobAction extends JobAction<AutoGradingBuildAction> {
     public String getUrlName() {
         return ID;
     }
+
+    public String getTrendName() {
+        return Messages.Trend_Name();
+    }
+
+    /**
+     * Returns whether the trend chart is visible or not. The trend is shown if at least two builds contain
+     * autograding results.
+     *
+     * @return {@code true} if the trend is visible, false otherwise
+     */
+    @SuppressWarnings("unused") // Called by jelly view
+    public boolean isTrendVisible() {
+        return getTrend().size() > 1;
+    }
+
+    /**
+     * Returns the UI model for an ECharts line chart that shows the scores of the latest builds.
+     *
+     * @return the UI model as JSON
+     */
+    @JavaScriptMethod
+    @SuppressWarnings("unused") // Called by jelly view
+    public String getBuildTrendModel() {
+        return JACKSON_FACADE.toJson(new ScoreTrendChart().create(getTrend()));
+    }
+
+    List<BuildScore> getTrend() {
+        return TRENDS.getScores(getOwner());
+    }
 }
@@ -1,9 +1,17 @@
 package io.jenkins.plugins.grading;
 
-import edu.hm.hafner.echarts.JacksonFacade;
-import edu.hm.hafner.echarts.PercentagePieChart;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.WeakHashMap;
+
+import javax.servlet.http.HttpServletResponse;
+
 import edu.hm.hafner.grading.AggregatedScore;
 
+import org.kohsuke.stapler.StaplerRequest;
+import org.kohsuke.stapler.StaplerResponse;
 import hudson.model.ModelObject;
 import hudson.model.Run;
 
@@ -14,7 +22,7 @@ import hudson.model.Run;
  * @author Eva-Maria Zeintl
  */
 public class AutoGradingViewModel implements ModelObject {
-    private static final JacksonFacade JACKSON_FACADE = new JacksonFacade();
+    private static final Map<AggregatedScore, String> MODELS = Collections.synchronizedMap(new WeakHashMap<>());
 
     private final Run<?, ?> owner;
     private final AggregatedScore score;
@@ -57,7 +65,78 @@ public class AutoGradingViewModel implements ModelObject {
      */
     @SuppressWarnings("unused") // Called by jelly view
     public String getProgressModel(final int percentage) {
-        return JACKSON_FACADE.toJson(new PercentagePieChart().create(percentage));
+        return ProgressChartModels.get(percentage);
     }
 
+    /**
+     * Returns the model of the scores in JSON format. The model is created only once for each score instance: as long
+     * as the score of a build is in memory, further requests are served from the cache.
+     *
+     * @return the model as JSON
+     */
+    public String getModel() {
+        return MODELS.computeIfAbsent(score, key -> new ScoreModel().create(key));
+    }
+
+    /**
+     * Returns the model of the scores as JSON response. The model is available at the URL {@code autograding/model}.
+     *
+     * @param request
+     *         Stapler request
+     * @param response
+     *         Stapler response
+     *
+     * @throws IOException
+     *         if the response could not be written
+     */
+    @SuppressWarnings("unused") // Called by Stapler
+    public void doModel(final StaplerRequest request, final StaplerResponse response) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(getModel());
+    }
+
+    /**
+     * Returns a window of rows of one of the score tables as JSON response. The table is available at the URL {@code
+     * autograding/table?id=[tests|coverage|pit|analysis]} and supports the parameters of the server side processing
+     * mode of DataTables. The rows are created from the score of this view, which is served by the {@link ResultCache}
+     * (see {@link AutoGradingBuildAction#getResult()}), so the results of the build are not read again for each
+     * request.
+     *
+     * @param request
+     *         Stapler request
+     * @param response
+     *         Stapler response
+     *
+     * @throws IOException
+     *         if the response could not be written
+     */
+    @SuppressWarnings("unused") // Called by Stapler
+    public void doTable(final StaplerRequest request, final StaplerResponse response) throws IOException {
+        ScoreTable table;
+        try {
+            table = ScoreTable.create(request.getParameter("id"), score);
+        }
+        catch (NoSuchElementException exception) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, exception.getMessage());
+            return;
+        }
+
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(table.getRows(
+                getInteger(request, "draw", 0),
+                getInteger(request, "start", 0),
+                getInteger(request, "length", -1),
+                request.getParameter("search[value]"),
+                request.getParameter("columns[" + getInteger(request, "order[0][column]", -1) + "][data]"),
+                !"desc".equals(request.getParameter("order[0][dir]"))));
+    }
+
+    private int getInteger(final StaplerRequest request, final String name, final int defaultValue) {
+        try {
+            return Integer.parseInt(request.getParameter(name));
+        }
+        catch (NumberFormatException exception) {
+            return defaultValue;
+        }
+    }
 }
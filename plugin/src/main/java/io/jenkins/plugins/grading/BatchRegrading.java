@@ -0,0 +1,144 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+import hudson.model.Run;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+
+/**
+ * Grades a batch of completed builds again using a {@link BuildRegrader}. The builds are graded in parallel using a
+ * bounded number of worker threads. Each graded build is reported to the progress stream. The batch can be cancelled
+ * at any time: then builds that have not been started yet are skipped, builds that are currently graded are
+ * completed.
+ *
+ * @author Ullrich Hafner
+ */
+class BatchRegrading {
+    /** Default number of builds that will be graded in parallel. */
+    static final int DEFAULT_THREADS = 2;
+
+    private final BuildRegrader regrader;
+    private final List<Run<?, ?>> builds;
+    private final int threads;
+    private final PrintStream progress;
+
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a new instance of {@link BatchRegrading}.
+     *
+     * @param regrader
+     *         the regrader that computes the new scores of a build
+     * @param builds
+     *         the builds to grade again
+     * @param threads
+     *         the number of builds that will be graded in parallel
+     * @param progress
+     *         the stream to report the progress to
+     */
+    BatchRegrading(final BuildRegrader regrader, final Collection<? extends Run<?, ?>> builds, final int threads,
+            final PrintStream progress) {
+        this.regrader = regrader;
+        this.builds = new ArrayList<>(builds);
+        this.threads = Math.max(1, threads);
+        this.progress = progress;
+    }
+
+    /**
+     * Grades all builds of the batch and waits until all builds have been graded. If the waiting thread is
+     * interrupted, then the batch is cancelled.
+     *
+     * @throws InterruptedException
+     *         if the waiting thread has been interrupted
+     */
+    void run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, builds.size())),
+                new NamingThreadFactory(new DaemonThreadFactory(), BatchRegrading.class.getSimpleName()));
+        try {
+            for (Run<?, ?> build : builds) {
+                executor.execute(() -> regrade(build));
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException exception) {
+            cancel();
+            throw exception;
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private void regrade(final Run<?, ?> build) {
+        if (cancelled) {
+            skipped.incrementAndGet();
+            return;
+        }
+        try {
+            AggregatedScore score = regrader.regrade(build);
+            completed.incrementAndGet();
+            report("Graded %s: %d of %d points", build.getExternalizableId(), score.getAchieved(),
+                    score.getTotal());
+        }
+        catch (IOException | RuntimeException exception) {
+            failed.incrementAndGet();
+            report("Failed to grade %s: %s", build.getExternalizableId(), exception);
+        }
+        catch (InterruptedException exception) {
+            skipped.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(final String format, final Object... args) {
+        synchronized (progress) {
+            progress.printf("[%d/%d] %s%n", getProcessed(), builds.size(), String.format(format, args));
+        }
+    }
+
+    /**
+     * Cancels the batch. Builds that have not been started yet are skipped.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    int getTotal() {
+        return builds.size();
+    }
+
+    int getCompleted() {
+        return completed.get();
+    }
+
+    int getFailed() {
+        return failed.get();
+    }
+
+    int getSkipped() {
+        return skipped.get();
+    }
+
+    private int getProcessed() {
+        return completed.get() + failed.get() + skipped.get();
+    }
+}
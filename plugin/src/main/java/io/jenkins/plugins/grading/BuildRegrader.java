@@ -0,0 +1,107 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.FilteredLog;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.model.Job;
+import hudson.model.Project;
+import hudson.model.Run;
+
+/**
+ * Computes the scores of a completed build again using a new grading configuration. The scores are computed from the
+ * results of the static analysis, test, coverage, and mutation coverage plugins that are already stored in the build,
+ * so the build is not executed again. The new scores replace the scores of the build.
+ *
+ * <p>
+ * If the build has been graded with {@link IncrementalScoring}, then the fingerprints of the inputs are computed again
+ * for the new configuration. So the next build reuses the scores of a regraded build only if it uses the same
+ * configuration.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class BuildRegrader {
+    private final String configuration;
+    @CheckForNull
+    private final String coverageMetrics;
+
+    /**
+     * Creates a new instance of {@link BuildRegrader}.
+     *
+     * @param configuration
+     *         the new grading configuration in JSON format
+     * @param coverageMetrics
+     *         the names of the coverage metrics that will be graded, or {@code null} to use the coverage metrics
+     *         that are configured in the {@link AutoGrader} of the job
+     */
+    BuildRegrader(final String configuration, @CheckForNull final String coverageMetrics) {
+        this.configuration = configuration;
+        this.coverageMetrics = coverageMetrics;
+    }
+
+    /**
+     * Computes the scores of the specified build and replaces the existing scores of the build.
+     *
+     * @param run
+     *         the build to grade again
+     *
+     * @return the new scores
+     * @throws IOException
+     *         if the build could not be saved
+     * @throws InterruptedException
+     *         if the computation has been interrupted
+     */
+    AggregatedScore regrade(final Run<?, ?> run) throws IOException, InterruptedException {
+        String metrics = getCoverageMetrics(run.getParent());
+        FilteredLog log = new FilteredLog(AutoGrader.LOG_TITLE);
+        AggregatedScore score = new AggregatedScore(configuration, log);
+        ScoreCollector.sequential().collect(score,
+                new JenkinsAnalysisSupplier(run)::createScores,
+                new JenkinsTestSupplier(run)::createScores,
+                new JenkinsCoverageSupplier(run, metrics, log)::createScores,
+                new JenkinsPitSupplier(run)::createScores);
+
+        AutoGradingBuildAction action = new AutoGradingBuildAction(run, score, getFingerprints(run, metrics));
+        run.replaceAction(action);
+        ResultCache.get().invalidate(run.getExternalizableId());
+        run.save();
+
+        Leaderboard.get().update(run.getParent(), run, action.getSummary());
+        ScoreIndex.get().append(ScoreIndex.Record.of(run, action.getSummary()));
+        AutoGradingJobAction.invalidateTrend(run.getParent());
+
+        return score;
+    }
+
+    private Map<String, String> getFingerprints(final Run<?, ?> run, final String metrics) {
+        AutoGradingBuildAction existing = run.getAction(AutoGradingBuildAction.class);
+        if (existing == null || existing.getFingerprints().isEmpty()) {
+            return Collections.emptyMap(); // incremental scoring is not used for this job
+        }
+        // the selected coverage metrics are part of the configuration of the coverage scores, see AutoGrader
+        return IncrementalScoring.computeFingerprints(run, configuration + '\n' + metrics);
+    }
+
+    /**
+     * Returns the coverage metrics to grade for the specified job. If no metrics have been specified for the
+     * regrading, then the metrics of the {@link AutoGrader} of the job are used. Pipelines do not provide their
+     * steps, so for them the default metrics are used.
+     */
+    private String getCoverageMetrics(final Job<?, ?> job) {
+        if (coverageMetrics != null) {
+            return coverageMetrics;
+        }
+        if (job instanceof Project) {
+            AutoGrader grader = ((Project<?, ?>) job).getPublishersList().get(AutoGrader.class);
+            if (grader != null) {
+                return grader.getCoverageMetrics();
+            }
+        }
+        return JenkinsCoverageSupplier.DEFAULT_METRICS;
+    }
+}
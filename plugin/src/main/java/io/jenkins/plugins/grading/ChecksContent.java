@@ -0,0 +1,60 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+
+import io.jenkins.plugins.checks.api.ChecksAnnotation;
+
+/**
+ * The rendered content of the checks: the title, summary, and text of the check and the selected annotations. The
+ * content is immutable, so it can be published several times, e.g. when publishing is retried.
+ *
+ * @author Ullrich Hafner
+ */
+class ChecksContent {
+    private final String title;
+    private final String summary;
+    private final String text;
+    private final AnnotationSelection<ChecksAnnotation> annotations;
+
+    /**
+     * Creates a new instance of {@link ChecksContent}.
+     *
+     * @param title
+     *         the title of the check
+     * @param summary
+     *         the summary of the check
+     * @param text
+     *         the text of the check
+     * @param annotations
+     *         the selected annotations
+     */
+    ChecksContent(final String title, final String summary, final String text,
+            final AnnotationSelection<ChecksAnnotation> annotations) {
+        this.title = title;
+        this.summary = summary;
+        this.text = text;
+        this.annotations = annotations;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    String getSummary() {
+        return summary;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the selected annotations. The annotations are created from the selected issues on each invocation, so
+     * they are held in memory only while the checks are published.
+     *
+     * @return the annotations
+     */
+    List<ChecksAnnotation> getAnnotations() {
+        return annotations.createAnnotations();
+    }
+}
@@ -0,0 +1,213 @@
+package io.jenkins.plugins.grading;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import jenkins.util.SystemProperties;
+
+/**
+ * Publishes the checks of builds asynchronously. The queue has a bounded capacity: if the queue is full, then new
+ * publications are rejected and need to be published by the caller. Publications that fail are retried with an
+ * exponential backoff. Publications for the same key (i.e., the same build) are coalesced: if a publication is
+ * submitted while an older publication for the same key is still waiting, then only the newest publication will be
+ * executed. Publications for the same key are never executed concurrently.
+ *
+ * @author Ullrich Hafner
+ */
+class ChecksPublishingQueue {
+    private static final Logger LOGGER = Logger.getLogger(ChecksPublishingQueue.class.getName());
+
+    private static final String PREFIX = ChecksPublishingQueue.class.getName();
+    private static final long MAX_DELAY = TimeUnit.MINUTES.toMillis(5);
+
+    private final ScheduledExecutorService executor;
+    private final int capacity;
+    private final int maxAttempts;
+    private final long initialDelay;
+
+    private final Object lock = new Object();
+    private final Map<String, Publication> pending = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+
+    /**
+     * Returns the queue that is shared by all builds.
+     *
+     * @return the shared queue
+     */
+    static ChecksPublishingQueue get() {
+        return SharedQueueHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new instance of {@link ChecksPublishingQueue}.
+     *
+     * @param executor
+     *         the executor that runs the publications
+     * @param capacity
+     *         the maximum number of publications that are waiting for execution
+     * @param maxAttempts
+     *         the maximum number of attempts to execute a publication
+     * @param initialDelay
+     *         the delay in milliseconds before the first retry, the delay is doubled for each further retry
+     */
+    ChecksPublishingQueue(final ScheduledExecutorService executor, final int capacity, final int maxAttempts,
+            final long initialDelay) {
+        this.executor = executor;
+        this.capacity = capacity;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelay = initialDelay;
+    }
+
+    /**
+     * Submits a new publication.
+     *
+     * @param key
+     *         the key of the publication, publications with the same key supersede each other
+     * @param publication
+     *         the publication to run
+     *
+     * @return {@code true} if the publication has been queued, {@code false} if the queue is full
+     */
+    boolean submit(final String key, final Runnable publication) {
+        synchronized (lock) {
+            Publication waiting = pending.get(key);
+            if (waiting != null) {
+                waiting.supersede(publication);
+                return true;
+            }
+            if (pending.size() >= capacity) {
+                return false;
+            }
+            Publication created = new Publication(key, publication, 0);
+            pending.put(key, created);
+            if (!running.contains(key)) {
+                schedule(created);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of publications that are waiting for execution.
+     *
+     * @return the number of waiting publications
+     */
+    int getPendingSize() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private void schedule(final Publication publication) {
+        executor.schedule(() -> execute(publication), getDelay(publication.getAttempt()), TimeUnit.MILLISECONDS);
+    }
+
+    private long getDelay(final int attempt) {
+        if (attempt == 0) {
+            return 0;
+        }
+        return Math.min(MAX_DELAY, initialDelay << Math.min(attempt - 1, 20));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void execute(final Publication publication) {
+        String key = publication.getKey();
+        Runnable task;
+        int attempt;
+        synchronized (lock) {
+            if (pending.get(key) != publication) {
+                return;
+            }
+            pending.remove(key);
+            running.add(key);
+            task = publication.getTask();
+            attempt = publication.getAttempt();
+        }
+
+        try {
+            task.run();
+        }
+        catch (RuntimeException exception) {
+            retry(key, task, attempt, exception);
+        }
+        finally {
+            synchronized (lock) {
+                running.remove(key);
+                Publication next = pending.get(key);
+                if (next != null) {
+                    schedule(next);
+                }
+            }
+        }
+    }
+
+    private void retry(final String key, final Runnable task, final int attempt, final RuntimeException exception) {
+        synchronized (lock) {
+            if (pending.containsKey(key)) {
+                LOGGER.log(Level.FINE, "Publishing checks for " + key + " failed, already superseded", exception);
+            }
+            else if (attempt + 1 < maxAttempts) {
+                LOGGER.log(Level.INFO, "Publishing checks for " + key + " failed, will retry: "
+                        + exception.getMessage());
+                pending.put(key, new Publication(key, task, attempt + 1));
+            }
+            else {
+                LOGGER.log(Level.WARNING, "Publishing checks for " + key + " failed after "
+                        + maxAttempts + " attempts", exception);
+            }
+        }
+    }
+
+    /**
+     * A publication that is waiting for execution.
+     */
+    private static class Publication {
+        private final String key;
+        private Runnable task;
+        private int attempt;
+
+        Publication(final String key, final Runnable task, final int attempt) {
+            this.key = key;
+            this.task = task;
+            this.attempt = attempt;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        Runnable getTask() {
+            return task;
+        }
+
+        int getAttempt() {
+            return attempt;
+        }
+
+        void supersede(final Runnable newTask) {
+            task = newTask;
+            attempt = 0;
+        }
+    }
+
+    /**
+     * Lazily creates the shared queue.
+     */
+    private static class SharedQueueHolder {
+        private static final ChecksPublishingQueue INSTANCE = new ChecksPublishingQueue(
+                Executors.newScheduledThreadPool(SystemProperties.getInteger(PREFIX + ".threads", 2),
+                        new NamingThreadFactory(new DaemonThreadFactory(), ChecksPublishingQueue.class.getSimpleName())),
+                SystemProperties.getInteger(PREFIX + ".capacity", 1000),
+                SystemProperties.getInteger(PREFIX + ".maxAttempts", 5),
+                TimeUnit.SECONDS.toMillis(SystemProperties.getInteger(PREFIX + ".initialDelaySeconds", 10)));
+    }
+}
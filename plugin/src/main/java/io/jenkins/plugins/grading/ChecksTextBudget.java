@@ -0,0 +1,92 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ensures that the Markdown text of a check does not exceed the size that SCM providers accept. Texts that are too
+ * large are truncated at section boundaries: the leading sections (starting with a Markdown heading) are kept as long
+ * as they fit into the budget, the remaining sections are replaced with a link to the complete results in Jenkins.
+ *
+ * @author Ullrich Hafner
+ */
+class ChecksTextBudget {
+    /** Maximum number of characters of the text of a check (limit of the GitHub checks API). */
+    static final int DEFAULT_MAX_LENGTH = 65_535;
+
+    private final int maxLength;
+
+    /**
+     * Creates a new instance of {@link ChecksTextBudget} with a budget of {@link #DEFAULT_MAX_LENGTH} characters.
+     */
+    ChecksTextBudget() {
+        this(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a new instance of {@link ChecksTextBudget}.
+     *
+     * @param maxLength
+     *         the maximum number of characters of the text
+     */
+    ChecksTextBudget(final int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the specified text if it fits into the budget. Otherwise, the text is truncated at a section boundary
+     * and a link to the complete results is appended.
+     *
+     * @param text
+     *         the Markdown text
+     * @param detailsUrl
+     *         the URL of the complete results
+     *
+     * @return the text that fits into the budget
+     */
+    String fit(final String text, final String detailsUrl) {
+        if (text.length() <= maxLength) {
+            return text;
+        }
+
+        String note = "\n\n---\n_The results have been truncated, see the [complete results](" + detailsUrl
+                + ") in Jenkins._\n";
+        int budget = maxLength - note.length();
+        if (budget <= 0) {
+            return note.substring(0, Math.min(note.length(), maxLength));
+        }
+
+        StringBuilder truncated = new StringBuilder(budget + note.length());
+        for (String section : splitIntoSections(text)) {
+            if (truncated.length() + section.length() > budget) {
+                if (truncated.length() == 0) {
+                    truncated.append(cutAtLineBreak(section, budget));
+                }
+                break;
+            }
+            truncated.append(section);
+        }
+        return truncated.append(note).toString();
+    }
+
+    private List<String> splitIntoSections(final String text) {
+        List<String> sections = new ArrayList<>();
+        int start = 0;
+        int position = text.indexOf("\n#");
+        while (position >= 0) {
+            sections.add(text.substring(start, position + 1));
+            start = position + 1;
+            position = text.indexOf("\n#", start);
+        }
+        sections.add(text.substring(start));
+        return sections;
+    }
+
+    private String cutAtLineBreak(final String section, final int budget) {
+        int lineBreak = section.lastIndexOf('\n', budget - 1);
+        if (lineBreak > 0) {
+            return section.substring(0, lineBreak + 1);
+        }
+        return section.substring(0, budget);
+    }
+}
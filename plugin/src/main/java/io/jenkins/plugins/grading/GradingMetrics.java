@@ -0,0 +1,66 @@
+package io.jenkins.plugins.grading;
+
+import hudson.ExtensionPoint;
+
+/**
+ * Records metrics of the computation of the scores. Each build that is graded reports the duration of the individual
+ * phases of the computation and increments some counters. Plugins may provide implementations of this extension point
+ * to export these metrics to a monitoring system. The default implementation {@link InMemoryGradingMetrics} aggregates
+ * the metrics in memory and shows them on a management page.
+ *
+ * @author Ullrich Hafner
+ */
+public abstract class GradingMetrics implements ExtensionPoint {
+    /** Counts the graded builds. */
+    public static final String BUILDS = "builds";
+    /** Counts the score categories that have been reused from a previous build. */
+    public static final String REUSED_SCORES = "reused-scores";
+    /** Counts the checks that have been queued for asynchronous publishing. */
+    public static final String QUEUED_CHECKS = "queued-checks";
+    /** Counts the asynchronous publications of checks that failed (each failed attempt is counted). */
+    public static final String FAILED_CHECKS = "failed-checks";
+    /** Counts the results that have been loaded from the build folders. */
+    public static final String RESULT_LOADS = "result-loads";
+    /** Counts the loaded results that have been evicted from the {@link ResultCache}. */
+    public static final String RESULT_EVICTIONS = "result-evictions";
+
+    /**
+     * The phases of the computation of the scores.
+     */
+    public enum Phase {
+        /** Parsing of the grading configuration. */
+        CONFIGURATION,
+        /** Creation of the static analysis scores. */
+        ANALYSIS,
+        /** Creation of the test scores. */
+        TESTS,
+        /** Creation of the code coverage scores. */
+        COVERAGE,
+        /** Creation of the mutation coverage scores. */
+        PIT,
+        /** Persistence of the scores in the build folder. */
+        PERSISTENCE,
+        /** Creation of the text and the annotations of the checks. */
+        CHECKS_RENDERING,
+        /** Publishing of the checks to the SCM provider. */
+        CHECKS_PUBLISHING
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase
+     *         the phase that has been completed
+     * @param durationInNanos
+     *         the duration of the phase in nanoseconds
+     */
+    public abstract void recordDuration(Phase phase, long durationInNanos);
+
+    /**
+     * Increments the specified counter.
+     *
+     * @param counter
+     *         the name of the counter
+     */
+    public abstract void increment(String counter);
+}
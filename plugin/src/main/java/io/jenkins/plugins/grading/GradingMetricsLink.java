@@ -0,0 +1,85 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+import java.util.SortedMap;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.ManagementLink;
+
+import io.jenkins.plugins.grading.InMemoryGradingMetrics.PhaseStatistics;
+
+/**
+ * Shows the metrics of the computation of the scores on the "Manage Jenkins" page. The page shows the durations of the
+ * individual phases, the counters, and the state of the caches and queues of the plugin.
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class GradingMetricsLink extends ManagementLink {
+    static final String URL_NAME = "autograding-metrics";
+
+    @CheckForNull
+    @Override
+    public String getIconFileName() {
+        return "/plugin/autograding/icons/autograding-48x48.png";
+    }
+
+    @CheckForNull
+    @Override
+    public String getDisplayName() {
+        return Messages.Metrics_Name();
+    }
+
+    @Override
+    public String getDescription() {
+        return Messages.Metrics_Description();
+    }
+
+    @CheckForNull
+    @Override
+    public String getUrlName() {
+        return URL_NAME;
+    }
+
+    private InMemoryGradingMetrics getMetrics() {
+        return ExtensionList.lookupSingleton(InMemoryGradingMetrics.class);
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public List<PhaseStatistics> getPhases() {
+        return getMetrics().getPhases();
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public SortedMap<String, Long> getCounters() {
+        return getMetrics().getCounters();
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public long getResultCacheHits() {
+        return ResultCache.get().getHits();
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public int getCachedResults() {
+        return ResultCache.get().size();
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public long getCachedResultsSize() {
+        return ResultCache.get().getEstimatedSize() / 1024;
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public long getCachedResultsMaxSize() {
+        return ResultCache.get().getMaxSize() / 1024;
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public int getPendingChecks() {
+        return ChecksPublishingQueue.get().getPendingSize();
+    }
+}
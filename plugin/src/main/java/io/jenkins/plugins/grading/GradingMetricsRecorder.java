@@ -0,0 +1,145 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import hudson.ExtensionList;
+
+import io.jenkins.plugins.grading.GradingMetrics.Phase;
+
+/**
+ * Reports the metrics of the computation of the scores to all registered {@link GradingMetrics} extensions. Failures of
+ * an extension are logged and do not affect the computation of the scores.
+ *
+ * @author Ullrich Hafner
+ */
+class GradingMetricsRecorder {
+    private static final Logger LOGGER = Logger.getLogger(GradingMetricsRecorder.class.getName());
+
+    private final List<GradingMetrics> metrics;
+
+    /**
+     * Creates a recorder that reports to all registered {@link GradingMetrics} extensions.
+     *
+     * @return the recorder
+     */
+    static GradingMetricsRecorder create() {
+        return new GradingMetricsRecorder(ExtensionList.lookup(GradingMetrics.class));
+    }
+
+    /**
+     * Creates a recorder that does not report any metrics.
+     *
+     * @return the recorder
+     */
+    static GradingMetricsRecorder none() {
+        return new GradingMetricsRecorder(Collections.emptyList());
+    }
+
+    /**
+     * Creates a new instance of {@link GradingMetricsRecorder}.
+     *
+     * @param metrics
+     *         the metrics to report to
+     */
+    GradingMetricsRecorder(final Collection<? extends GradingMetrics> metrics) {
+        this.metrics = new ArrayList<>(metrics);
+    }
+
+    /**
+     * Increments the specified counter.
+     *
+     * @param counter
+     *         the name of the counter
+     */
+    void increment(final String counter) {
+        for (GradingMetrics metric : metrics) {
+            try {
+                metric.increment(counter);
+            }
+            catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "Can't increment counter " + counter, exception);
+            }
+        }
+    }
+
+    /**
+     * Executes the specified phase and records its duration.
+     *
+     * @param phase
+     *         the phase to execute
+     * @param execution
+     *         the execution of the phase
+     * @param <T>
+     *         the type of the result of the phase
+     *
+     * @return the result of the phase
+     */
+    <T> T time(final Phase phase, final Supplier<T> execution) {
+        long start = System.nanoTime();
+        try {
+            return execution.get();
+        }
+        finally {
+            recordDuration(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Executes the specified phase and records its duration.
+     *
+     * @param phase
+     *         the phase to execute
+     * @param execution
+     *         the execution of the phase
+     */
+    void time(final Phase phase, final Runnable execution) {
+        time(phase, () -> {
+            execution.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wraps the specified function so that the duration of each invocation is recorded.
+     *
+     * @param phase
+     *         the phase that is executed by the function
+     * @param function
+     *         the function to wrap
+     * @param <C>
+     *         the type of the argument
+     * @param <R>
+     *         the type of the result
+     *
+     * @return the wrapped function
+     */
+    <C, R> Function<C, R> timed(final Phase phase, final Function<C, R> function) {
+        return argument -> time(phase, () -> function.apply(argument));
+    }
+
+    /**
+     * Records the duration of a phase that has been measured by the caller.
+     *
+     * @param phase
+     *         the phase that has been completed
+     * @param duration
+     *         the duration of the phase in nanoseconds
+     */
+    void recordDuration(final Phase phase, final long duration) {
+        for (GradingMetrics metric : metrics) {
+            try {
+                metric.recordDuration(phase, duration);
+            }
+            catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "Can't record duration of phase " + phase, exception);
+            }
+        }
+    }
+}
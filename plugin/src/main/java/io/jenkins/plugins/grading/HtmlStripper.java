@@ -0,0 +1,391 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Locale;
+
+/**
+ * Strips the markup from the HTML messages of issues in a single pass. Only the subset of HTML that is used in the
+ * messages of the warnings plugin is supported: text, anchors, code and line breaks. Every text fragment is written
+ * as a separate line that is terminated by a newline, anchors are written as {@code text:href}. Whitespace is
+ * normalized and duplicate lines are skipped. A fragment that consists of whitespace only is written as an empty line
+ * (like the text nodes of the former DOM based conversion). The fragments are written in the order of their
+ * appearance.
+ *
+ * @author Ullrich Hafner
+ */
+class HtmlStripper {
+    private static final String ANCHOR = "a";
+
+    private final String html;
+    private final StringBuilder output;
+    private final int origin;
+
+    private int position;
+    private int lineStart;
+    private boolean pendingSpace;
+    private boolean blank;
+    private String href;
+
+    /**
+     * Appends the text of the specified HTML message to the given output.
+     *
+     * @param html
+     *         the HTML message
+     * @param output
+     *         the output to append the text lines to
+     */
+    static void appendText(final String html, final StringBuilder output) {
+        new HtmlStripper(html, output).strip();
+    }
+
+    private HtmlStripper(final String html, final StringBuilder output) {
+        this.html = html;
+        this.output = output;
+        origin = output.length();
+    }
+
+    private void strip() {
+        skipLeadingWhitespace();
+        startLine();
+        while (position < html.length()) {
+            char c = html.charAt(position);
+            if (c == '<' && isMarkupStart(position + 1)) {
+                readMarkup();
+            }
+            else if (c == '&') {
+                appendCharacter(readEntity());
+            }
+            else {
+                appendCharacter(c);
+                position++;
+            }
+        }
+        if (href != null) {
+            finishAnchor();
+        }
+        endLine();
+    }
+
+    /**
+     * Skips the whitespace and comments at the start of the message: they do not belong to any text fragment, so no
+     * empty line is written for them.
+     */
+    private void skipLeadingWhitespace() {
+        while (position < html.length()) {
+            char c = html.charAt(position);
+            if (html.startsWith("<!--", position)) {
+                skipComment();
+            }
+            else if (c != '\u00A0' && isWhitespace(c)) {
+                position++;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    private boolean isMarkupStart(final int index) {
+        if (index >= html.length()) {
+            return false;
+        }
+        char c = html.charAt(index);
+        return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+    }
+
+    private void readMarkup() {
+        if (html.startsWith("<!--", position)) {
+            skipComment();
+            if (href == null) {
+                breakLine();
+            }
+            return;
+        }
+
+        int end = findTagEnd(position + 1);
+        String tag = html.substring(position + 1, end);
+        position = Math.min(html.length(), end + 1);
+
+        boolean isClosing = tag.startsWith("/");
+        String name = readTagName(tag, isClosing ? 1 : 0);
+        if (!isClosing && "pre".equals(name) && html.startsWith("\n", position)) {
+            position++; // the first newline of a pre element is not part of its content
+        }
+        if (!isClosing && ("script".equals(name) || "style".equals(name))) {
+            skipContentOf(name);
+            breakLine();
+        }
+        else if (href != null) {
+            if (isClosing && ANCHOR.equals(name)) {
+                finishAnchor();
+            }
+            else if ("br".equals(name) || !isInlineElement(name)) {
+                pendingSpace = output.length() > lineStart;
+            }
+        }
+        else {
+            breakLine();
+            if (!isClosing && ANCHOR.equals(name)) {
+                href = readAttribute(tag, "href");
+            }
+        }
+    }
+
+    private void skipComment() {
+        int end = html.indexOf("-->", position + 4);
+        position = end < 0 ? html.length() : end + 3;
+    }
+
+    private boolean isInlineElement(final String name) {
+        switch (name) {
+            case "b":
+            case "i":
+            case "em":
+            case "strong":
+            case "code":
+            case "tt":
+            case "span":
+            case "small":
+            case "big":
+            case "sub":
+            case "sup":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int findTagEnd(final int start) {
+        char quote = 0;
+        for (int i = start; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            }
+            else if (c == '"' || c == '\'') {
+                quote = c;
+            }
+            else if (c == '>') {
+                return i;
+            }
+        }
+        return html.length();
+    }
+
+    private String readTagName(final String tag, final int start) {
+        int end = start;
+        while (end < tag.length() && !Character.isWhitespace(tag.charAt(end))
+                && tag.charAt(end) != '/' && tag.charAt(end) != '>') {
+            end++;
+        }
+        return tag.substring(start, end).toLowerCase(Locale.ENGLISH);
+    }
+
+    private void skipContentOf(final String name) {
+        int end = html.toLowerCase(Locale.ENGLISH).indexOf("</" + name, position);
+        if (end < 0) {
+            position = html.length();
+        }
+        else {
+            position = Math.min(html.length(), findTagEnd(end) + 1);
+        }
+    }
+
+    private String readAttribute(final String tag, final String attribute) {
+        int index = 0;
+        while (index < tag.length()) {
+            char c = tag.charAt(index);
+            if (Character.isWhitespace(c) || c == '/') {
+                index++;
+                continue;
+            }
+            int nameStart = index;
+            while (index < tag.length() && !Character.isWhitespace(tag.charAt(index))
+                    && tag.charAt(index) != '=' && tag.charAt(index) != '/') {
+                index++;
+            }
+            String name = tag.substring(nameStart, index);
+            while (index < tag.length() && Character.isWhitespace(tag.charAt(index))) {
+                index++;
+            }
+            String value = "";
+            if (index < tag.length() && tag.charAt(index) == '=') {
+                index++;
+                while (index < tag.length() && Character.isWhitespace(tag.charAt(index))) {
+                    index++;
+                }
+                int valueStart;
+                int valueEnd;
+                if (index < tag.length() && (tag.charAt(index) == '"' || tag.charAt(index) == '\'')) {
+                    char quote = tag.charAt(index);
+                    valueStart = index + 1;
+                    valueEnd = tag.indexOf(quote, valueStart);
+                    if (valueEnd < 0) {
+                        valueEnd = tag.length();
+                    }
+                    index = Math.min(tag.length(), valueEnd + 1);
+                }
+                else {
+                    valueStart = index;
+                    while (index < tag.length() && !Character.isWhitespace(tag.charAt(index))) {
+                        index++;
+                    }
+                    valueEnd = index;
+                }
+                value = tag.substring(valueStart, valueEnd);
+            }
+            if (name.equalsIgnoreCase(attribute)) {
+                return decodeEntities(value).trim();
+            }
+        }
+        return null;
+    }
+
+    private void finishAnchor() {
+        pendingSpace = false;
+        output.append(':').append(href);
+        href = null;
+        breakLine();
+    }
+
+    private char readEntity() {
+        int end = html.indexOf(';', position + 1);
+        if (end > position + 1 && end - position <= 10) {
+            Character decoded = decodeEntity(html.substring(position + 1, end));
+            if (decoded != null) {
+                position = end + 1;
+                return decoded;
+            }
+        }
+        position++;
+        return '&';
+    }
+
+    private String decodeEntities(final String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        StringBuilder decoded = new StringBuilder(value.length());
+        int index = 0;
+        while (index < value.length()) {
+            char c = value.charAt(index);
+            int end = value.indexOf(';', index + 1);
+            if (c == '&' && end > index + 1 && end - index <= 10) {
+                Character entity = decodeEntity(value.substring(index + 1, end));
+                if (entity != null) {
+                    decoded.append(entity.charValue());
+                    index = end + 1;
+                    continue;
+                }
+            }
+            decoded.append(c);
+            index++;
+        }
+        return decoded.toString();
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private Character decodeEntity(final String entity) {
+        switch (entity) {
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            case "amp":
+                return '&';
+            case "quot":
+                return '"';
+            case "apos":
+                return '\'';
+            case "nbsp":
+                return '\u00A0';
+            default:
+                break;
+        }
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            try {
+                int codePoint;
+                if (entity.charAt(1) == 'x' || entity.charAt(1) == 'X') {
+                    codePoint = Integer.parseInt(entity.substring(2), 16);
+                }
+                else {
+                    codePoint = Integer.parseInt(entity.substring(1));
+                }
+                if (codePoint >= 0 && codePoint <= Character.MAX_VALUE) {
+                    return (char) codePoint;
+                }
+            }
+            catch (NumberFormatException ignored) {
+                // not a valid numeric entity, will be shown as is
+            }
+        }
+        return null;
+    }
+
+    private void appendCharacter(final char c) {
+        if (isWhitespace(c)) {
+            pendingSpace = output.length() > lineStart;
+            blank = true;
+        }
+        else {
+            if (pendingSpace) {
+                output.append(' ');
+                pendingSpace = false;
+            }
+            output.append(c);
+        }
+    }
+
+    private boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == '\u00A0';
+    }
+
+    private void startLine() {
+        lineStart = output.length();
+        pendingSpace = false;
+        blank = false;
+    }
+
+    private void breakLine() {
+        endLine();
+        startLine();
+    }
+
+    /**
+     * Ends the current line: lines without any characters and lines that already have been written are removed again.
+     */
+    private void endLine() {
+        if (output.length() == lineStart && !blank || isDuplicate()) {
+            output.setLength(lineStart);
+        }
+        else {
+            output.append('\n');
+        }
+    }
+
+    private boolean isDuplicate() {
+        int length = output.length() - lineStart;
+        int start = origin;
+        while (start < lineStart) {
+            int end = start;
+            while (output.charAt(end) != '\n') {
+                end++;
+            }
+            if (end - start == length && regionMatches(start, length)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private boolean regionMatches(final int start, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (output.charAt(start + i) != output.charAt(lineStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Converts the HTML messages of issues to plain text. Since most messages are repeated verbatim for all issues of the
+ * same type, the converted messages are stored in a bounded cache that evicts the least recently used entries. Messages
+ * that contain no markup at all are not parsed. All other messages are converted with a {@link HtmlStripper}: the text
+ * fragments of a message are returned as separate lines.
+ *
+ * @author Ullrich Hafner
+ */
+class HtmlToTextConverter {
+    /** Default number of messages that will be cached. */
+    static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final Map<String, String> cache;
+
+    /**
+     * Creates a new instance of {@link HtmlToTextConverter} that caches up to {@link #DEFAULT_CACHE_SIZE} messages.
+     */
+    HtmlToTextConverter() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance of {@link HtmlToTextConverter}.
+     *
+     * @param cacheSize
+     *         the maximum number of messages to cache
+     */
+    HtmlToTextConverter(final int cacheSize) {
+        cache = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = -1420549347585462520L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Converts the specified HTML message to plain text.
+     *
+     * @param html
+     *         the message to convert
+     *
+     * @return the plain text
+     */
+    String toText(final String html) {
+        if (isPlainText(html)) {
+            return normalizeWhitespace(html);
+        }
+        String text = cache.get(html);
+        if (text == null) {
+            text = parseHtml(html);
+            cache.put(html, text);
+        }
+        return text;
+    }
+
+    /**
+     * Returns the number of cached messages.
+     *
+     * @return the number of cached messages
+     */
+    int getCacheSize() {
+        return cache.size();
+    }
+
+    private boolean isPlainText(final String html) {
+        return html.indexOf('<') < 0 && html.indexOf('&') < 0;
+    }
+
+    private String normalizeWhitespace(final String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            }
+            else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == '\u00A0';
+    }
+
+    private String parseHtml(final String html) {
+        StringBuilder text = BUFFER.get();
+        text.setLength(0);
+        HtmlStripper.appendText(html, text);
+        if (text.length() > 0) {
+            text.setLength(text.length() - 1);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import hudson.Extension;
+
+/**
+ * Aggregates the metrics of the computation of the scores in memory. For each phase the number of executions and the
+ * total, maximum, and last duration are stored. The metrics are reset when Jenkins is restarted.
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class InMemoryGradingMetrics extends GradingMetrics {
+    private final Map<Phase, PhaseStatistics> phases = new EnumMap<>(Phase.class);
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of {@link InMemoryGradingMetrics}.
+     */
+    public InMemoryGradingMetrics() {
+        super();
+
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new PhaseStatistics(phase));
+        }
+    }
+
+    @Override
+    public void recordDuration(final Phase phase, final long durationInNanos) {
+        phases.get(phase).record(durationInNanos);
+    }
+
+    @Override
+    public void increment(final String counter) {
+        counters.computeIfAbsent(counter, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the statistics of all phases.
+     *
+     * @return the statistics of the phases
+     */
+    public List<PhaseStatistics> getPhases() {
+        return new ArrayList<>(phases.values());
+    }
+
+    /**
+     * Returns the statistics of the specified phase.
+     *
+     * @param phase
+     *         the phase
+     *
+     * @return the statistics of the phase
+     */
+    public PhaseStatistics getPhase(final Phase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * Returns the values of all counters, sorted by name.
+     *
+     * @return the counters
+     */
+    public SortedMap<String, Long> getCounters() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        counters.forEach((name, value) -> values.put(name, value.sum()));
+        return values;
+    }
+
+    /**
+     * Returns the value of the specified counter.
+     *
+     * @param counter
+     *         the name of the counter
+     *
+     * @return the value of the counter
+     */
+    public long getCounter(final String counter) {
+        LongAdder value = counters.get(counter);
+        return value == null ? 0 : value.sum();
+    }
+
+    /**
+     * Aggregated durations of a phase.
+     */
+    public static class PhaseStatistics {
+        private final Phase phase;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong last = new AtomicLong();
+
+        PhaseStatistics(final Phase phase) {
+            this.phase = phase;
+        }
+
+        void record(final long durationInNanos) {
+            count.increment();
+            total.add(durationInNanos);
+            max.accumulateAndGet(durationInNanos, Math::max);
+            last.set(durationInNanos);
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return toMillis(total.sum());
+        }
+
+        public long getMaxMillis() {
+            return toMillis(max.get());
+        }
+
+        public long getLastMillis() {
+            return toMillis(last.get());
+        }
+
+        /**
+         * Returns the average duration of this phase.
+         *
+         * @return the average duration in milliseconds, or 0 if the phase has not been executed yet
+         */
+        public long getAverageMillis() {
+            long executions = count.sum();
+            return executions == 0 ? 0 : toMillis(total.sum() / executions);
+        }
+
+        private static long toMillis(final long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+    }
+}
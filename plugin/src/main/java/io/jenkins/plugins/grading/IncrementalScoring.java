@@ -0,0 +1,191 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.model.Run;
+import jenkins.util.SystemProperties;
+
+/**
+ * Reuses the scores of the previous build if the inputs of a category did not change. The inputs of a category are
+ * identified by an {@link InputFingerprint} of the result files that the coverage and mutation coverage plugins store
+ * in the build folder. If the fingerprint matches the fingerprint of the previous build, then the scores of the
+ * previous build are used and the results of the plugin are not loaded at all.
+ *
+ * <p>
+ * The static analysis and test scores are not fingerprinted: these scores are computed from the totals that are
+ * stored in the {@code build.xml} file of the build anyway, so computing them is as cheap as comparing them.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class IncrementalScoring {
+    static final String COVERAGE = "coverage";
+    static final String PIT = "pit";
+    /** Default number of previous builds that are visited to find the results of the previous build. */
+    static final int DEFAULT_MAX_BUILDS = 10;
+
+    private static final int MAX_BUILDS = SystemProperties.getInteger(
+            IncrementalScoring.class.getName() + ".maxBuilds", DEFAULT_MAX_BUILDS);
+
+    private static final String[] COVERAGE_FILES = {"coverage-report"};
+    private static final String[] PIT_FILES = {"mutation-report"};
+
+    private final Map<String, String> fingerprints = new HashMap<>();
+    @CheckForNull
+    private final AutoGradingBuildAction previous;
+    private final Map<String, Boolean> reusable = new HashMap<>();
+
+    /**
+     * Creates a new instance of {@link IncrementalScoring} for the specified build.
+     *
+     * @param run
+     *         the build to grade
+     * @param configuration
+     *         the grading configuration in JSON format
+     * @param log
+     *         the log to report the reused categories to
+     */
+    IncrementalScoring(final Run<?, ?> run, final String configuration, final FilteredLog log) {
+        this(new InputFingerprint(run.getRootDir().toPath()), findPreviousAction(run, MAX_BUILDS),
+                configuration, log);
+    }
+
+    @VisibleForTesting
+    IncrementalScoring(final InputFingerprint fingerprint, @CheckForNull final AutoGradingBuildAction previous,
+            final String configuration, final FilteredLog log) {
+        this.previous = previous;
+
+        computeFingerprint(fingerprint, configuration, COVERAGE, COVERAGE_FILES);
+        computeFingerprint(fingerprint, configuration, PIT, PIT_FILES);
+
+        if (previous != null) {
+            Map<String, String> previousFingerprints = previous.getFingerprints();
+            for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+                boolean unchanged = entry.getValue().equals(previousFingerprints.get(entry.getKey()));
+                reusable.put(entry.getKey(), unchanged);
+                if (unchanged) {
+                    log.logInfo("Reusing %s scores of the previous build since the results did not change",
+                            entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the fingerprints of the inputs of the specified build without comparing them to the fingerprints of a
+     * previous build.
+     *
+     * @param run
+     *         the build to compute the fingerprints for
+     * @param configuration
+     *         the grading configuration in JSON format, including the selected coverage metrics
+     *
+     * @return the fingerprints, mapped by category
+     */
+    static Map<String, String> computeFingerprints(final Run<?, ?> run, final String configuration) {
+        return new IncrementalScoring(new InputFingerprint(run.getRootDir().toPath()), null, configuration,
+                new FilteredLog(AutoGrader.LOG_TITLE)).getFingerprints();
+    }
+
+    private void computeFingerprint(final InputFingerprint fingerprint, final String configuration,
+            final String category, final String... prefixes) {
+        Optional<String> value = fingerprint.compute(configuration, prefixes);
+        value.ifPresent(hash -> fingerprints.put(category, hash));
+    }
+
+    /**
+     * Returns the autograding results of the latest of the previous {@code maxBuilds} builds. Older builds are not
+     * visited: if none of the recent builds has been graded, then the scores are computed from scratch anyway.
+     *
+     * @param run
+     *         the build to find the previous results for
+     * @param maxBuilds
+     *         the maximum number of previous builds to visit
+     *
+     * @return the previous results, or {@code null} if none of the visited builds has been graded
+     */
+    @CheckForNull
+    @VisibleForTesting
+    static AutoGradingBuildAction findPreviousAction(final Run<?, ?> run, final int maxBuilds) {
+        Run<?, ?> build = run.getPreviousBuild();
+        for (int i = 0; i < maxBuilds && build != null; i++) {
+            AutoGradingBuildAction action = build.getAction(AutoGradingBuildAction.class);
+            if (action != null) {
+                return action;
+            }
+            build = build.getPreviousBuild();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the fingerprints of the inputs of the build. These fingerprints should be stored with the results of
+     * the build so that the next build can compare its inputs.
+     *
+     * @return the fingerprints, mapped by category
+     */
+    Map<String, String> getFingerprints() {
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
+    /**
+     * Returns whether the scores of the specified category will be reused.
+     *
+     * @param category
+     *         the category, either {@link #COVERAGE} or {@link #PIT}
+     *
+     * @return {@code true} if the scores of the previous build will be reused, {@code false} otherwise
+     */
+    boolean isReused(final String category) {
+        return reusable.getOrDefault(category, false);
+    }
+
+    /**
+     * Wraps the specified coverage supplier so that the scores of the previous build are reused if the coverage
+     * results did not change.
+     *
+     * @param supplier
+     *         the supplier that computes the scores from the coverage results
+     *
+     * @return the supplier to use
+     */
+    Function<CoverageConfiguration, List<CoverageScore>> coverage(
+            final Function<CoverageConfiguration, List<CoverageScore>> supplier) {
+        return reuse(COVERAGE, supplier, AggregatedScore::getCoverageScores);
+    }
+
+    /**
+     * Wraps the specified mutation coverage supplier so that the scores of the previous build are reused if the
+     * mutation coverage results did not change.
+     *
+     * @param supplier
+     *         the supplier that computes the scores from the mutation coverage results
+     *
+     * @return the supplier to use
+     */
+    Function<PitConfiguration, List<PitScore>> pit(final Function<PitConfiguration, List<PitScore>> supplier) {
+        return reuse(PIT, supplier, AggregatedScore::getPitScores);
+    }
+
+    private <C, S> Function<C, List<S>> reuse(final String category, final Function<C, List<S>> supplier,
+            final Function<AggregatedScore, List<S>> previousScores) {
+        if (previous != null && isReused(category)) {
+            return configuration -> previousScores.apply(previous.getResult());
+        }
+        return supplier;
+    }
+}
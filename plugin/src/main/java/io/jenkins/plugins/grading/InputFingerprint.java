@@ -0,0 +1,100 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes the fingerprint of the inputs of a score category. The fingerprint is a SHA-256 hash of the grading
+ * configuration and of the names and contents of all result files in the build folder that start with one of the
+ * specified prefixes. Folders are traversed recursively. If the inputs of two builds have the same fingerprint, then
+ * the scores of the category are the same as well.
+ *
+ * @author Ullrich Hafner
+ */
+class InputFingerprint {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path buildFolder;
+
+    /**
+     * Creates a new instance of {@link InputFingerprint}.
+     *
+     * @param buildFolder
+     *         the folder of the build that contains the result files
+     */
+    InputFingerprint(final Path buildFolder) {
+        this.buildFolder = buildFolder;
+    }
+
+    /**
+     * Computes the fingerprint of the specified result files.
+     *
+     * @param configuration
+     *         the grading configuration
+     * @param prefixes
+     *         the prefixes of the result files in the build folder
+     *
+     * @return the fingerprint, or an empty optional if there are no such files or if the files could not be read
+     */
+    Optional<String> compute(final String configuration, final String... prefixes) {
+        try {
+            List<Path> files = findFiles(prefixes);
+            if (files.isEmpty()) {
+                return Optional.empty();
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (Path file : files) {
+                digest.update(buildFolder.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                try (InputStream input = Files.newInputStream(file)) {
+                    int read = input.read(buffer);
+                    while (read >= 0) {
+                        digest.update(buffer, 0, read);
+                        read = input.read(buffer);
+                    }
+                }
+            }
+            return Optional.of(toHex(digest.digest()));
+        }
+        catch (IOException | UncheckedIOException | NoSuchAlgorithmException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private List<Path> findFiles(final String... prefixes) throws IOException {
+        try (Stream<Path> children = Files.list(buildFolder)) {
+            List<Path> matching = children
+                    .filter(child -> Stream.of(prefixes).anyMatch(child.getFileName().toString()::startsWith))
+                    .collect(Collectors.toList());
+            List<Path> files = new ArrayList<>();
+            for (Path path : matching) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    walk.filter(Files::isRegularFile).forEach(files::add);
+                }
+            }
+            files.sort(null);
+            return files;
+        }
+    }
+
+    private String toHex(final byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+
+/**
+ * An index of the issues of several reports by the file that contains the issue. The index is created by a single
+ * pass over all issues and is used to select the issues of a set of files without iterating over all issues again.
+ *
+ * <p>
+ * The paths of the issues are typically absolute paths in the workspace, while the paths of the changed files are
+ * relative to the root of the repository. So an issue is selected if its path ends with the path of a selected file.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class IssueIndex {
+    private final Map<String, List<IndexedIssue>> issuesByFileName = new HashMap<>();
+    private final int size;
+
+    /**
+     * Creates a new index of the issues of the specified reports.
+     *
+     * @param reports
+     *         the reports with the issues to index
+     */
+    IssueIndex(final Iterable<Report> reports) {
+        int sequence = 0;
+        for (Report report : reports) {
+            for (Issue issue : report) {
+                String path = normalize(issue.getFileName());
+                issuesByFileName.computeIfAbsent(getFileName(path), key -> new ArrayList<>())
+                        .add(new IndexedIssue(sequence++, path, issue));
+            }
+        }
+        size = sequence;
+    }
+
+    /**
+     * Returns the number of indexed issues.
+     *
+     * @return the number of issues
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the issues in the specified files. The issues are returned in the order of the indexed reports.
+     *
+     * @param files
+     *         the paths of the files, relative to the root of the repository
+     *
+     * @return a report with the issues in the specified files
+     */
+    Report select(final Collection<String> files) {
+        Map<Integer, Issue> selected = new TreeMap<>();
+        for (String file : files) {
+            String path = normalize(file);
+            for (IndexedIssue candidate : issuesByFileName.getOrDefault(getFileName(path), Collections.emptyList())) {
+                if (candidate.isInFile(path)) {
+                    selected.put(candidate.sequence, candidate.issue);
+                }
+            }
+        }
+
+        Report report = new Report();
+        selected.values().forEach(report::add);
+        return report;
+    }
+
+    private static String normalize(final String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        return normalized;
+    }
+
+    private static String getFileName(final String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * An issue together with its position in the reports and its normalized path.
+     */
+    private static class IndexedIssue {
+        private final int sequence;
+        private final String path;
+        private final Issue issue;
+
+        IndexedIssue(final int sequence, final String path, final Issue issue) {
+            this.sequence = sequence;
+            this.path = path;
+            this.issue = issue;
+        }
+
+        boolean isInFile(final String file) {
+            if (path.equals(file)) {
+                return true;
+            }
+            return path.endsWith(file) && path.charAt(path.length() - file.length() - 1) == '/';
+        }
+    }
+}
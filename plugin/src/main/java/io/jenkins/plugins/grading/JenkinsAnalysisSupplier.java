@@ -6,44 +6,43 @@ import java.util.stream.Collectors;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.grading.AnalysisConfiguration;
 import edu.hm.hafner.grading.AnalysisScore;
-import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
 import edu.hm.hafner.grading.AnalysisSupplier;
 
 import hudson.model.Run;
 
-import io.jenkins.plugins.analysis.core.model.AnalysisResult;
 import io.jenkins.plugins.analysis.core.model.ResultAction;
 
 /**
  * Supplies {@link AnalysisScore static analysis scores} based on the results of the registered {@link ResultAction}
- * instances.
+ * instances. The actions are resolved only once when this supplier is created, the reports with the issues are loaded
+ * only on demand.
  *
  * @author Ullrich Hafner
  */
 class JenkinsAnalysisSupplier extends AnalysisSupplier {
-    private final Run<?, ?> run;
+    private final List<AnalysisResultSnapshot> snapshots;
 
     JenkinsAnalysisSupplier(final Run<?, ?> run) {
-        this.run = run;
+        this(AnalysisResultSnapshot.of(run));
+    }
+
+    JenkinsAnalysisSupplier(final List<AnalysisResultSnapshot> snapshots) {
+        this.snapshots = snapshots;
     }
 
     protected List<AnalysisScore> createScores(final AnalysisConfiguration configuration) {
-        return run.getActions(ResultAction.class).stream().map(action ->
-                new AnalysisScoreBuilder().withConfiguration(configuration)
-                        .withId(action.getResult().getId())
-                        .withDisplayName(action.getLabelProvider().getName())
-                        .withTotalErrorsSize(action.getResult().getTotalErrorsSize())
-                        .withTotalHighSeveritySize(action.getResult().getTotalHighPrioritySize())
-                        .withTotalNormalSeveritySize(action.getResult().getTotalNormalPrioritySize())
-                        .withTotalLowSeveritySize(action.getResult().getTotalLowPrioritySize())
-                        .build()).collect(Collectors.toList());
+        return snapshots.stream()
+                .map(snapshot -> snapshot.createScore(configuration))
+                .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the reports of all static analysis results. The issues of a report are read when the corresponding
+     * element of the returned list is accessed for the first time.
+     *
+     * @return the reports
+     */
     List<Report> getReports() {
-        return run.getActions(ResultAction.class)
-                .stream()
-                .map(ResultAction::getResult)
-                .map(AnalysisResult::getIssues)
-                .collect(Collectors.toList());
+        return AnalysisResultSnapshot.getReports(snapshots);
     }
 }
@@ -1,7 +1,16 @@
 package io.jenkins.plugins.grading;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -9,39 +18,124 @@ import edu.hm.hafner.grading.CoverageConfiguration;
 import edu.hm.hafner.grading.CoverageScore;
 import edu.hm.hafner.grading.CoverageScore.CoverageScoreBuilder;
 import edu.hm.hafner.grading.CoverageSupplier;
+import edu.hm.hafner.util.FilteredLog;
 
 import hudson.model.Run;
 
 import io.jenkins.plugins.coverage.CoverageAction;
 import io.jenkins.plugins.coverage.targets.CoverageElement;
+import io.jenkins.plugins.coverage.targets.Ratio;
 
 /**
  * Supplies {@link CoverageScore coverage scores} based on the results of the registered
- * {@link CoverageAction} instances.
+ * {@link CoverageAction} instances. For each action a score is created for each of the selected coverage metrics.
+ * All metrics of an action are obtained from a single query of the aggregated results. Metrics that are not part of
+ * the results are reported as errors in the log.
  *
  * @author Ullrich Hafner
  */
 class JenkinsCoverageSupplier extends CoverageSupplier {
+    /** The coverage metrics that are graded by default. */
+    static final String DEFAULT_METRICS = "Line, Conditional";
+
     private final Run<?, ?> run;
+    private final List<String> metrics;
+    private final FilteredLog log;
 
     JenkinsCoverageSupplier(final Run<?, ?> run) {
+        this(run, DEFAULT_METRICS, new FilteredLog(AutoGrader.LOG_TITLE));
+    }
+
+    /**
+     * Creates a new instance of {@link JenkinsCoverageSupplier}.
+     *
+     * @param run
+     *         the run to get the coverage actions from
+     * @param metrics
+     *         a comma separated list of the names of the coverage metrics to grade, e.g. {@code Line, Method}
+     * @param log
+     *         the log to report the metrics to that are not part of the coverage results
+     */
+    JenkinsCoverageSupplier(final Run<?, ?> run, final String metrics, final FilteredLog log) {
         this.run = run;
+        this.metrics = parseMetrics(metrics);
+        this.log = log;
+    }
+
+    /**
+     * Returns the names of the specified coverage metrics that are not contained in the known metrics. Names are
+     * compared case-insensitive.
+     *
+     * @param metrics
+     *         a comma separated list of the names of the coverage metrics, e.g. {@code Line, Method}
+     * @param knownMetrics
+     *         the names of the known coverage metrics
+     *
+     * @return the unknown names
+     */
+    static List<String> getUnknownMetrics(final String metrics, final Collection<String> knownMetrics) {
+        Set<String> known = knownMetrics.stream()
+                .map(name -> name.toLowerCase(Locale.ENGLISH))
+                .collect(Collectors.toSet());
+        return parseMetrics(metrics).stream()
+                .filter(name -> !known.contains(name.toLowerCase(Locale.ENGLISH)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> parseMetrics(final String metrics) {
+        List<String> names = Arrays.stream(StringUtils.defaultString(metrics).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .distinct()
+                .collect(Collectors.toList());
+        if (names.isEmpty()) {
+            return parseMetrics(DEFAULT_METRICS);
+        }
+        return names;
     }
 
     @Override
     protected List<CoverageScore> createScores(final CoverageConfiguration configuration) {
         List<CoverageScore> scores = new ArrayList<>();
-        CoverageAction action = run.getAction(CoverageAction.class);
-        if (action != null) {
-            scores.add(createCoverageScore(action, CoverageElement.LINE).withConfiguration(configuration).build());
-            scores.add(createCoverageScore(action, CoverageElement.CONDITIONAL).withConfiguration(configuration).build());
+        List<CoverageAction> actions = run.getActions(CoverageAction.class);
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (int i = 0; i < actions.size(); i++) {
+            Map<String, Entry<CoverageElement, Ratio>> results = getResultsByName(actions.get(i));
+            String suffix = i == 0 ? StringUtils.EMPTY : String.valueOf(i + 1);
+            for (String metric : metrics) {
+                Entry<CoverageElement, Ratio> result = results.get(metric.toLowerCase(Locale.ENGLISH));
+                if (result != null) {
+                    scores.add(createCoverageScore(result.getKey().getName(), result.getValue(), suffix)
+                            .withConfiguration(configuration).build());
+                }
+                else {
+                    unresolved.add(metric);
+                }
+            }
+        }
+        for (String metric : unresolved) {
+            log.logError("Skipping coverage metric '%s' since it is not part of the coverage results", metric);
         }
         return scores;
     }
 
-    private CoverageScoreBuilder createCoverageScore(final CoverageAction action, final CoverageElement type) {
-        return new CoverageScoreBuilder().withId(StringUtils.lowerCase(type.getName()))
-                .withDisplayName(type.getName() + " Coverage")
-                .withCoveredPercentage(action.getResult().getCoverage(type).getPercentage());
+    private Map<String, Entry<CoverageElement, Ratio>> getResultsByName(final CoverageAction action) {
+        Map<String, Entry<CoverageElement, Ratio>> results = new HashMap<>();
+        for (Entry<CoverageElement, Ratio> result : action.getResult().getResults().entrySet()) {
+            results.put(result.getKey().getName().toLowerCase(Locale.ENGLISH), result);
+        }
+        return results;
+    }
+
+    private CoverageScoreBuilder createCoverageScore(final String name, final Ratio ratio, final String suffix) {
+        String id = StringUtils.lowerCase(name);
+        String displayName = name + " Coverage";
+        if (StringUtils.isNotEmpty(suffix)) {
+            id += "-" + suffix;
+            displayName += " (" + suffix + ")";
+        }
+        return new CoverageScoreBuilder().withId(id)
+                .withDisplayName(displayName)
+                .withCoveredPercentage(ratio.getPercentage());
     }
 }
@@ -0,0 +1,262 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Run;
+
+import io.jenkins.plugins.grading.ScoreIndex.Record;
+
+/**
+ * An index of the latest scores of all jobs. The index is seeded once from the {@link ScoreIndex} and is then updated
+ * incrementally whenever a build with autograding results has been completed or deleted, or whenever a job has
+ * been renamed or moved (see {@link ScoreRunListener}). So neither the builds nor the actual results of the builds
+ * are read to show the leaderboard. Jobs that have been graded before the {@link ScoreIndex} has been created are
+ * shown after the index has been rebuilt (see {@link RebuildScoreIndexCommand}): the command reloads the leaderboard
+ * from the rebuilt index.
+ *
+ * @author Ullrich Hafner
+ */
+class Leaderboard {
+    private static final Logger LOGGER = Logger.getLogger(Leaderboard.class.getName());
+
+    private final Supplier<Collection<Record>> index;
+    private volatile Map<String, Record> scores = new ConcurrentHashMap<>();
+    private volatile boolean seeded;
+
+    /**
+     * Returns the leaderboard that is shared by all views.
+     *
+     * @return the shared leaderboard
+     */
+    static Leaderboard get() {
+        return SharedLeaderboardHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new instance of {@link Leaderboard}.
+     *
+     * @param index
+     *         provides the scores of all indexed builds
+     */
+    Leaderboard(final Supplier<Collection<Record>> index) {
+        this.index = index;
+    }
+
+    /**
+     * Updates the score of the job of the specified build.
+     *
+     * @param job
+     *         the job of the build
+     * @param build
+     *         the completed build
+     * @param summary
+     *         the score of the build
+     */
+    void update(final Job<?, ?> job, final Run<?, ?> build, final ScoreSummary summary) {
+        update(Record.of(job, build, summary));
+    }
+
+    private void update(final Record record) {
+        update(scores, record);
+    }
+
+    private static void update(final Map<String, Record> latest, final Record record) {
+        latest.merge(record.getJob(), record,
+                (existing, created) -> created.getBuildNumber() >= existing.getBuildNumber() ? created : existing);
+    }
+
+    /**
+     * Removes the job with the specified name from the index.
+     *
+     * @param fullName
+     *         the full name of the job
+     */
+    void remove(final String fullName) {
+        scores.remove(fullName);
+    }
+
+    /**
+     * Moves the score of the specified job to the new name of the job, e.g. after the job has been renamed or moved to
+     * another folder.
+     *
+     * @param oldFullName
+     *         the previous full name of the job
+     * @param newFullName
+     *         the new full name of the job
+     */
+    void rename(final String oldFullName, final String newFullName) {
+        seed();
+
+        Record latest = scores.remove(oldFullName);
+        if (latest != null) {
+            update(latest.withJob(newFullName));
+        }
+    }
+
+    /**
+     * Removes the score of the specified build. If the build provided the latest score of its job, then the latest
+     * score of the remaining builds of the job is taken from the {@link ScoreIndex}.
+     *
+     * @param fullName
+     *         the full name of the job
+     * @param buildNumber
+     *         the number of the deleted build
+     */
+    void remove(final String fullName, final int buildNumber) {
+        seed();
+
+        Record latest = scores.get(fullName);
+        if (latest != null && latest.getBuildNumber() == buildNumber) {
+            scores.remove(fullName, latest);
+            index.get().stream()
+                    .filter(record -> record.getJob().equals(fullName) && record.getBuildNumber() != buildNumber)
+                    .forEach(this::update);
+        }
+    }
+
+    /**
+     * Returns whether one of the specified items is a job with a score.
+     *
+     * @param items
+     *         the items to check
+     *
+     * @return {@code true} if at least one of the items has a score, {@code false} otherwise
+     */
+    boolean hasScores(final Collection<? extends Item> items) {
+        seed();
+
+        return items.stream().anyMatch(item -> item instanceof Job && scores.containsKey(item.getFullName()));
+    }
+
+    /**
+     * Returns the latest scores of the specified jobs, sorted by the total score in descending order. Jobs without a
+     * score are skipped.
+     *
+     * @param jobs
+     *         the jobs to get the scores for
+     *
+     * @return the scores of the jobs
+     */
+    List<Entry> getEntries(final Collection<? extends Job<?, ?>> jobs) {
+        seed();
+
+        List<Entry> selected = new ArrayList<>();
+        for (Job<?, ?> job : jobs) {
+            Record record = scores.get(job.getFullName());
+            if (record != null) {
+                selected.add(new Entry(job.getFullDisplayName(), job.getUrl(), record));
+            }
+        }
+        selected.sort(Comparator.comparingInt(Entry::getRatio).reversed().thenComparing(Entry::getDisplayName));
+        return selected;
+    }
+
+    /**
+     * Replaces all scores with the latest scores of the {@link ScoreIndex}. Jobs that are not part of the index anymore
+     * are removed from the leaderboard.
+     */
+    synchronized void reload() {
+        Map<String, Record> reloaded = new ConcurrentHashMap<>();
+        index.get().forEach(record -> update(reloaded, record));
+        scores = reloaded;
+        seeded = true;
+    }
+
+    private void seed() {
+        if (!seeded) {
+            synchronized (this) {
+                if (!seeded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private static Collection<Record> readIndex() {
+        try {
+            return ScoreIndex.get().query(record -> true);
+        }
+        catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Can't read the scores of the score index", exception);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * The latest score of a job.
+     */
+    public static class Entry {
+        private final String displayName;
+        private final String url;
+        private final Record record;
+
+        Entry(final String displayName, final String url, final Record record) {
+            this.displayName = displayName;
+            this.url = url;
+            this.record = record;
+        }
+
+        public String getFullName() {
+            return record.getJob();
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public int getBuildNumber() {
+            return record.getBuildNumber();
+        }
+
+        public int getAchieved() {
+            return record.getAchieved();
+        }
+
+        public int getTotal() {
+            return record.getTotal();
+        }
+
+        public int getRatio() {
+            return record.getRatio();
+        }
+
+        public int getTestRatio() {
+            return record.getTestRatio();
+        }
+
+        public int getCoverageRatio() {
+            return record.getCoverageRatio();
+        }
+
+        public int getPitRatio() {
+            return record.getPitRatio();
+        }
+
+        public int getAnalysisRatio() {
+            return record.getAnalysisRatio();
+        }
+    }
+
+    /**
+     * Lazily creates the shared leaderboard.
+     */
+    private static class SharedLeaderboardHolder {
+        private static final Leaderboard INSTANCE = new Leaderboard(Leaderboard::readIndex);
+    }
+}
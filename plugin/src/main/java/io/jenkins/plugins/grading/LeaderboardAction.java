@@ -0,0 +1,136 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import org.kohsuke.stapler.StaplerRequest;
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.Job;
+import hudson.model.TransientViewActionFactory;
+import hudson.model.View;
+
+import io.jenkins.plugins.grading.Leaderboard.Entry;
+
+/**
+ * Shows the latest scores of all jobs of a view (or folder) in a leaderboard. The scores are provided by the
+ * {@link Leaderboard} index, so the results of the builds do not need to be read.
+ *
+ * @author Ullrich Hafner
+ */
+public class LeaderboardAction implements Action {
+    static final String URL_NAME = "autograding-leaderboard";
+
+    private final View view;
+
+    /**
+     * Creates a new instance of {@link LeaderboardAction}.
+     *
+     * @param view
+     *         the view that contains the jobs
+     */
+    public LeaderboardAction(final View view) {
+        this.view = view;
+    }
+
+    public View getOwner() {
+        return view;
+    }
+
+    @Override
+    public String getIconFileName() {
+        return AutoGradingJobAction.SMALL_ICON;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return Messages.Leaderboard_Name();
+    }
+
+    @Override
+    public String getUrlName() {
+        return URL_NAME;
+    }
+
+    /**
+     * Returns the latest scores of all jobs of the view. The scores are sorted by the column that is selected by the
+     * request parameter {@code sort} (one of {@code name}, {@code total}, {@code tests}, {@code coverage}, {@code pit},
+     * or {@code analysis}). Without such a parameter, the scores are sorted by the total score.
+     *
+     * @param request
+     *         the request that selects the sort order
+     *
+     * @return the scores of the jobs
+     */
+    @SuppressWarnings("unused") // Called by jelly view
+    public List<Entry> getEntries(@CheckForNull final StaplerRequest request) {
+        String sort = request == null ? null : request.getParameter("sort");
+        return sort(getEntries(), sort);
+    }
+
+    List<Entry> getEntries() {
+        return Leaderboard.get().getEntries(getJobs());
+    }
+
+    @SuppressWarnings("unused") // Called by jelly view
+    public ScoreStatistics getStatistics() {
+        return new ScoreStatistics(getEntries());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<? extends Job<?, ?>> getJobs() {
+        return (Collection) view.getAllItems().stream()
+                .filter(item -> item instanceof Job)
+                .collect(Collectors.toList());
+    }
+
+    static List<Entry> sort(final List<Entry> entries, @CheckForNull final String column) {
+        Comparator<Entry> comparator;
+        switch (StringUtils.defaultString(column).toLowerCase(Locale.ENGLISH)) {
+            case "name":
+                return entries.stream()
+                        .sorted(Comparator.comparing(Entry::getDisplayName, String.CASE_INSENSITIVE_ORDER))
+                        .collect(Collectors.toList());
+            case "tests":
+                comparator = Comparator.comparingInt(Entry::getTestRatio);
+                break;
+            case "coverage":
+                comparator = Comparator.comparingInt(Entry::getCoverageRatio);
+                break;
+            case "pit":
+                comparator = Comparator.comparingInt(Entry::getPitRatio);
+                break;
+            case "analysis":
+                comparator = Comparator.comparingInt(Entry::getAnalysisRatio);
+                break;
+            default:
+                return entries;
+        }
+        return entries.stream()
+                .sorted(comparator.reversed().thenComparing(Entry::getDisplayName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a {@link LeaderboardAction} to all views that contain at least one job with a score.
+     */
+    @Extension
+    public static class LeaderboardActionFactory extends TransientViewActionFactory {
+        @Override
+        public List<Action> createFor(@NonNull final View target) {
+            if (Leaderboard.get().hasScores(target.getAllItems())) {
+                return Collections.singletonList(new LeaderboardAction(target));
+            }
+            return Collections.emptyList();
+        }
+    }
+}
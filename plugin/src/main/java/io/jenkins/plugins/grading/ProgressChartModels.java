@@ -0,0 +1,53 @@
+package io.jenkins.plugins.grading;
+
+import edu.hm.hafner.echarts.JacksonFacade;
+import edu.hm.hafner.echarts.PercentagePieChart;
+
+/**
+ * Provides the JSON models of the ECharts progress charts. Since a progress chart shows a percentage, there are only
+ * 101 different models. These models are created once on first use and are shared by all views.
+ *
+ * @author Ullrich Hafner
+ */
+final class ProgressChartModels {
+    private static final int MAX_PERCENTAGE = 100;
+
+    /**
+     * Returns the UI model for an ECharts progress chart.
+     *
+     * @param percentage
+     *         the percentage to show
+     *
+     * @return the UI model as JSON
+     */
+    static String get(final int percentage) {
+        if (percentage < 0 || percentage > MAX_PERCENTAGE) {
+            return create(new JacksonFacade(), percentage);
+        }
+        return ModelTableHolder.MODELS[percentage];
+    }
+
+    private static String create(final JacksonFacade jackson, final int percentage) {
+        return jackson.toJson(new PercentagePieChart().create(percentage));
+    }
+
+    private ProgressChartModels() {
+        // prevents instantiation
+    }
+
+    /**
+     * Lazily creates the models of all percentages.
+     */
+    private static class ModelTableHolder {
+        private static final String[] MODELS = createModels();
+
+        private static String[] createModels() {
+            JacksonFacade jackson = new JacksonFacade();
+            String[] models = new String[MAX_PERCENTAGE + 1];
+            for (int percentage = 0; percentage <= MAX_PERCENTAGE; percentage++) {
+                models[percentage] = create(jackson, percentage);
+            }
+            return models;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.jenkins.plugins.grading;
+
+import org.kohsuke.args4j.Option;
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import jenkins.model.Jenkins;
+
+import io.jenkins.plugins.grading.ScoreIndex.Record;
+import io.jenkins.plugins.util.JenkinsFacade;
+
+/**
+ * Prints the scores of the {@link ScoreIndex} that match the specified criteria in CSV format.
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class QueryScoreIndexCommand extends CLICommand {
+    @Option(name = "--job", metaVar = "JOB", usage = "Full name of the job to select the scores of")
+    private String job;
+
+    @Option(name = "--from", metaVar = "MILLIS", usage = "Selects builds that started at or after this time")
+    private long from = Long.MIN_VALUE;
+
+    @Option(name = "--to", metaVar = "MILLIS", usage = "Selects builds that started before this time")
+    private long to = Long.MAX_VALUE;
+
+    @Option(name = "--min-score", metaVar = "PERCENT", usage = "Minimum total score in percent")
+    private int minScore = Integer.MIN_VALUE;
+
+    @Option(name = "--max-score", metaVar = "PERCENT", usage = "Maximum total score in percent")
+    private int maxScore = Integer.MAX_VALUE;
+
+    private final JenkinsFacade jenkins = new JenkinsFacade();
+
+    @Override
+    public String getShortDescription() {
+        return "Prints the indexed autograding scores that match the specified criteria.";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        if (!jenkins.hasPermission(Jenkins.ADMINISTER)) {
+            throw new AbortException("Querying the score index requires the administer permission");
+        }
+
+        ScoreQuery query = new ScoreQuery().withJob(job).withTime(from, to).withRatio(minScore, maxScore);
+        stdout.println("job,build,timestamp,achieved,total,ratio,tests,coverage,pit,analysis");
+        for (Record record : ScoreIndex.get().query(query)) {
+            stdout.println(record.toCsv());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,64 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.kohsuke.args4j.Argument;
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.model.Job;
+import jenkins.model.Jenkins;
+
+import io.jenkins.plugins.util.JenkinsFacade;
+
+/**
+ * Rebuilds the {@link ScoreIndex} from the autograding results that are stored in the build folders. If no jobs are
+ * specified, then the index is rebuilt for all jobs. Afterwards, the {@link Leaderboard} is reloaded from the rebuilt
+ * index.
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class RebuildScoreIndexCommand extends CLICommand {
+    @Argument(metaVar = "JOB", usage = "Full names of the jobs to index, all jobs are indexed if none is given")
+    private List<String> jobs = new ArrayList<>();
+
+    private final JenkinsFacade jenkins = new JenkinsFacade();
+
+    @Override
+    public String getShortDescription() {
+        return "Rebuilds the index of the autograding scores from the results of all builds.";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        if (!jenkins.hasPermission(Jenkins.ADMINISTER)) {
+            throw new AbortException("Rebuilding the score index requires the administer permission");
+        }
+
+        boolean replaceAll = jobs.isEmpty();
+        Collection<String> names = replaceAll ? jenkins.getAllJobNames() : jobs;
+        List<Job<?, ?>> selected = new ArrayList<>();
+        for (String name : names) {
+            Optional<Job<?, ?>> job = jenkins.getJob(name);
+            if (job.isPresent()) {
+                selected.add(job.get());
+            }
+            else {
+                stderr.println("Skipping unknown job " + name);
+            }
+        }
+        if (selected.isEmpty() && !replaceAll) {
+            stdout.println("No jobs to index");
+            return 0;
+        }
+
+        int count = ScoreIndex.get().rebuild(selected, replaceAll);
+        Leaderboard.get().reload();
+        stdout.printf("Indexed the scores of %d builds in %d jobs%n", count, selected.size());
+        return 0;
+    }
+}
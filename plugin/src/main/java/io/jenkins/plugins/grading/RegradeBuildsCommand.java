@@ -0,0 +1,88 @@
+package io.jenkins.plugins.grading;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import org.kohsuke.args4j.Argument;
+import org.kohsuke.args4j.Option;
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.model.Job;
+import hudson.model.Run;
+import jenkins.model.Jenkins;
+
+import io.jenkins.plugins.util.JenkinsFacade;
+
+/**
+ * Grades completed builds again using a new grading configuration that is read from standard input. The builds are
+ * not executed again: the scores are computed from the results that are already stored in the builds. Only builds
+ * that already contain autograding results are graded. Aborting the command cancels the grading of all builds that
+ * have not been started yet.
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class RegradeBuildsCommand extends CLICommand {
+    @Argument(metaVar = "JOB", required = true, usage = "Full names of the jobs to grade")
+    private List<String> jobs = new ArrayList<>();
+
+    @Option(name = "--from", metaVar = "BUILD", usage = "Number of the first build to grade")
+    private int from = 1;
+
+    @Option(name = "--to", metaVar = "BUILD", usage = "Number of the last build to grade")
+    private int to = Integer.MAX_VALUE;
+
+    @Option(name = "--coverage-metrics", metaVar = "METRICS",
+            usage = "Comma separated list of coverage metrics, defaults to the metrics that are configured in the job")
+    private String coverageMetrics;
+
+    @Option(name = "--threads", metaVar = "N", usage = "Number of builds that are graded in parallel")
+    private int threads = BatchRegrading.DEFAULT_THREADS;
+
+    private final JenkinsFacade jenkins = new JenkinsFacade();
+
+    @Override
+    public String getShortDescription() {
+        return "Grades completed builds again with the grading configuration that is read from stdin.";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        if (!jenkins.hasPermission(Jenkins.ADMINISTER)) {
+            throw new AbortException("Grading builds again requires the administer permission");
+        }
+
+        String configuration = IOUtils.toString(stdin, StandardCharsets.UTF_8);
+        if (StringUtils.isBlank(configuration)) {
+            throw new AbortException("No grading configuration has been provided on standard input");
+        }
+        BuildRegrader regrader = new BuildRegrader(configuration, coverageMetrics);
+
+        List<Run<?, ?>> builds = new ArrayList<>();
+        for (String name : jobs) {
+            Optional<Job<?, ?>> job = jenkins.getJob(name);
+            if (!job.isPresent()) {
+                throw new AbortException("No such job: " + name);
+            }
+            for (Run<?, ?> build : job.get().getBuilds()) {
+                if (build.getNumber() >= from && build.getNumber() <= to && !build.isBuilding()
+                        && build.getAction(AutoGradingBuildAction.class) != null) {
+                    builds.add(build);
+                }
+            }
+        }
+
+        stdout.printf("Grading %d builds using %d threads%n", builds.size(), threads);
+        BatchRegrading batch = new BatchRegrading(regrader, builds, threads, stdout);
+        batch.run();
+        stdout.printf("Graded %d builds, %d failed%n", batch.getCompleted(), batch.getFailed());
+
+        return batch.getFailed() == 0 ? 0 : 1;
+    }
+}
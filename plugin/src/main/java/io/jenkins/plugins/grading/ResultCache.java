@@ -0,0 +1,205 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.TestScore;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import jenkins.util.SystemProperties;
+
+/**
+ * Caches the results of the builds that have been loaded from the build folders. The {@link AutoGradingBuildAction}
+ * instances do not keep a strong reference to their results, so this cache holds the only reference of a loaded
+ * result. The cache is limited by the estimated heap size of the cached results. If the limit is exceeded, then the
+ * least recently used results are evicted and can be reclaimed by the garbage collector. The size of a result is
+ * estimated from the number of scores and the length of their names. The number of loads and evictions is reported
+ * to the {@link GradingMetrics}.
+ *
+ * @author Ullrich Hafner
+ */
+class ResultCache {
+    /** Default maximum total size of the cached results in bytes. */
+    static final int DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    private static final int RESULT_OVERHEAD = 512;
+    private static final int SCORE_OVERHEAD = 64;
+    private static final int STRING_OVERHEAD = 40;
+
+    private final long maxSize;
+    private final GradingMetricsRecorder metrics;
+    private final Map<String, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long estimatedSize;
+    private long hits;
+    private long loads;
+    private long evictions;
+
+    /**
+     * Returns the cache that is shared by all builds.
+     *
+     * @return the shared cache
+     */
+    static ResultCache get() {
+        return SharedCacheHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new instance of {@link ResultCache}.
+     *
+     * @param maxSize
+     *         the maximum total size of the cached results in bytes
+     * @param metrics
+     *         the metrics to report the loads and evictions to
+     */
+    ResultCache(final long maxSize, final GradingMetricsRecorder metrics) {
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the result of the build with the specified ID. If the result is not cached yet, then it will be loaded
+     * using the specified loader. The result is not locked while loading, so concurrent requests of the same result
+     * might load the result twice.
+     *
+     * @param id
+     *         the externalizable ID of the build
+     * @param loader
+     *         loads the result from the build folder
+     *
+     * @return the result
+     */
+    AggregatedScore getResult(final String id, final Supplier<AggregatedScore> loader) {
+        synchronized (this) {
+            CachedResult cached = results.get(id);
+            if (cached != null) {
+                hits++;
+                return cached.getScore();
+            }
+            loads++;
+        }
+        metrics.increment(GradingMetrics.RESULT_LOADS);
+
+        AggregatedScore score = loader.get();
+        put(id, score);
+        return score;
+    }
+
+    private void put(final String id, final AggregatedScore score) {
+        int evicted = 0;
+        synchronized (this) {
+            CachedResult added = new CachedResult(score);
+            CachedResult replaced = results.put(id, added);
+            if (replaced != null) {
+                estimatedSize -= replaced.getSize();
+            }
+            estimatedSize += added.getSize();
+
+            Iterator<CachedResult> eldest = results.values().iterator();
+            while (estimatedSize > maxSize && eldest.hasNext()) {
+                estimatedSize -= eldest.next().getSize();
+                eldest.remove();
+                evicted++;
+            }
+            evictions += evicted;
+        }
+        for (int i = 0; i < evicted; i++) {
+            metrics.increment(GradingMetrics.RESULT_EVICTIONS);
+        }
+    }
+
+    /**
+     * Removes the result of the build with the specified ID from the cache.
+     *
+     * @param id
+     *         the externalizable ID of the build
+     */
+    synchronized void invalidate(final String id) {
+        CachedResult removed = results.remove(id);
+        if (removed != null) {
+            estimatedSize -= removed.getSize();
+        }
+    }
+
+    synchronized int size() {
+        return results.size();
+    }
+
+    synchronized long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    long getMaxSize() {
+        return maxSize;
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getLoads() {
+        return loads;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * A cached result and its estimated size.
+     */
+    private static class CachedResult {
+        private final AggregatedScore score;
+        private final long size;
+
+        CachedResult(final AggregatedScore score) {
+            this.score = score;
+            size = estimateSize(score);
+        }
+
+        AggregatedScore getScore() {
+            return score;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        private static long estimateSize(final AggregatedScore score) {
+            long total = RESULT_OVERHEAD;
+            for (AnalysisScore analysis : score.getAnalysisScores()) {
+                total += SCORE_OVERHEAD + sizeOf(analysis.getId()) + sizeOf(analysis.getName());
+            }
+            for (TestScore test : score.getTestScores()) {
+                total += SCORE_OVERHEAD + sizeOf(test.getId()) + sizeOf(test.getName());
+            }
+            for (CoverageScore coverage : score.getCoverageScores()) {
+                total += SCORE_OVERHEAD + sizeOf(coverage.getId()) + sizeOf(coverage.getName());
+            }
+            for (PitScore pit : score.getPitScores()) {
+                total += SCORE_OVERHEAD + sizeOf(pit.getId()) + sizeOf(pit.getName());
+            }
+            return total;
+        }
+
+        private static long sizeOf(@CheckForNull final String value) {
+            return STRING_OVERHEAD + 2L * StringUtils.length(value);
+        }
+    }
+
+    /**
+     * Lazily creates the shared cache.
+     */
+    private static class SharedCacheHolder {
+        private static final ResultCache INSTANCE = new ResultCache(
+                SystemProperties.getInteger(ResultCache.class.getName() + ".maxSize", DEFAULT_MAX_SIZE),
+                GradingMetricsRecorder.create());
+    }
+}
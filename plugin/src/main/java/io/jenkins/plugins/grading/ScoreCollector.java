@@ -0,0 +1,178 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.AnalysisSupplier;
+import edu.hm.hafner.grading.Configuration;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.CoverageScore;
+import edu.hm.hafner.grading.CoverageSupplier;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.PitSupplier;
+import edu.hm.hafner.grading.TestConfiguration;
+import edu.hm.hafner.grading.TestScore;
+import edu.hm.hafner.grading.TestSupplier;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import jenkins.util.SystemProperties;
+
+/**
+ * Collects the scores of all suppliers and adds them to an {@link AggregatedScore}. The suppliers are either invoked
+ * sequentially or concurrently using a bounded executor. In both modes the results are added in the same order
+ * (analysis, tests, coverage, PIT), so the aggregated score and the log do not depend on the execution mode.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreCollector {
+    private static final int THREADS = SystemProperties.getInteger(ScoreCollector.class.getName() + ".threads", 4);
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newFixedThreadPool(THREADS,
+            new NamingThreadFactory(new DaemonThreadFactory(), ScoreCollector.class.getSimpleName()));
+
+    @CheckForNull
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new {@link ScoreCollector} that invokes the suppliers one after another.
+     *
+     * @return the collector
+     */
+    static ScoreCollector sequential() {
+        return new ScoreCollector(null);
+    }
+
+    /**
+     * Creates a new {@link ScoreCollector} that invokes the suppliers concurrently using the shared, bounded executor
+     * of the plugin.
+     *
+     * @return the collector
+     */
+    static ScoreCollector concurrent() {
+        return new ScoreCollector(SHARED_EXECUTOR);
+    }
+
+    /**
+     * Creates a new instance of {@link ScoreCollector}.
+     *
+     * @param executor
+     *         the executor to invoke the suppliers with, or {@code null} if the suppliers should be invoked
+     *         sequentially
+     */
+    ScoreCollector(@CheckForNull final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Collects the scores of the specified suppliers and adds them to the aggregated score.
+     *
+     * @param score
+     *         the aggregated score to add the results to
+     * @param analysis
+     *         supplies the static analysis scores
+     * @param tests
+     *         supplies the test scores
+     * @param coverage
+     *         supplies the code coverage scores
+     * @param pit
+     *         supplies the mutation coverage scores
+     *
+     * @throws InterruptedException
+     *         if the thread has been interrupted while waiting for the concurrent suppliers
+     */
+    void collect(final AggregatedScore score,
+            final Function<AnalysisConfiguration, List<AnalysisScore>> analysis,
+            final Function<TestConfiguration, List<TestScore>> tests,
+            final Function<CoverageConfiguration, List<CoverageScore>> coverage,
+            final Function<PitConfiguration, List<PitScore>> pit) throws InterruptedException {
+        Future<List<AnalysisScore>> analysisScores = submit(analysis, score.getAnalysisConfiguration());
+        Future<List<TestScore>> testScores = submit(tests, score.getTestConfiguration());
+        Future<List<CoverageScore>> coverageScores = submit(coverage, score.getCoverageConfiguration());
+        Future<List<PitScore>> pitScores = submit(pit, score.getPitConfiguration());
+
+        try {
+            List<AnalysisScore> analysisResults = get(analysisScores);
+            List<TestScore> testResults = get(testScores);
+            List<CoverageScore> coverageResults = get(coverageScores);
+            List<PitScore> pitResults = get(pitScores);
+
+            score.addAnalysisScores(new AnalysisSupplier() {
+                @Override
+                protected List<AnalysisScore> createScores(final AnalysisConfiguration configuration) {
+                    return analysisResults == null ? analysis.apply(configuration) : analysisResults;
+                }
+            });
+            score.addTestScores(new TestSupplier() {
+                @Override
+                protected List<TestScore> createScores(final TestConfiguration configuration) {
+                    return testResults == null ? tests.apply(configuration) : testResults;
+                }
+            });
+            score.addCoverageScores(new CoverageSupplier() {
+                @Override
+                protected List<CoverageScore> createScores(final CoverageConfiguration configuration) {
+                    return coverageResults == null ? coverage.apply(configuration) : coverageResults;
+                }
+            });
+            score.addPitScores(new PitSupplier() {
+                @Override
+                protected List<PitScore> createScores(final PitConfiguration configuration) {
+                    return pitResults == null ? pit.apply(configuration) : pitResults;
+                }
+            });
+        }
+        finally {
+            cancel(analysisScores, testScores, coverageScores, pitScores);
+        }
+    }
+
+    /**
+     * Submits the specified supplier to the executor. If the collector runs sequentially or if the category is
+     * disabled, then nothing will be submitted: the supplier will be invoked later on demand.
+     */
+    @CheckForNull
+    private <C extends Configuration, S> Future<List<S>> submit(final Function<C, List<S>> supplier,
+            final C configuration) {
+        if (executor == null || configuration.getMaxScore() <= 0) {
+            return null;
+        }
+        return executor.submit(() -> supplier.apply(configuration));
+    }
+
+    @CheckForNull
+    private <S> List<S> get(@CheckForNull final Future<List<S>> future) throws InterruptedException {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get();
+        }
+        catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Supplier failed to create the scores", cause);
+        }
+    }
+
+    private void cancel(final Future<?>... futures) {
+        for (Future<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
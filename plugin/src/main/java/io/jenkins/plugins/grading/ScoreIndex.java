@@ -0,0 +1,462 @@
+package io.jenkins.plugins.grading;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.model.Job;
+import hudson.model.Run;
+import jenkins.util.SystemProperties;
+
+/**
+ * A plugin-wide index of the scores of all builds. The index is an append-only file in the Jenkins home folder. Each
+ * line contains the score summary of a build in JSON format. A new line is appended whenever a build with autograding
+ * results has been completed (see {@link ScoreRunListener}). If a build has been graded several times, then the last
+ * line wins. If a build has been deleted, then a line that marks the build as deleted is appended.
+ *
+ * <p>
+ * The index can be queried by job, time, and score without reading the results of the builds. Queries read a snapshot
+ * of the file without holding the lock, so they do not block the appends of completed builds. Since regraded and
+ * deleted builds leave obsolete lines behind, the file is compacted after a configurable number of appends. The index
+ * can be rebuilt from the results that are stored in the build folders (see {@link RebuildScoreIndexCommand}). If a
+ * job has been renamed or moved, then its scores are rewritten with the new name of the job.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreIndex {
+    /** The name of the index file, relative to the Jenkins home folder. */
+    static final String FILE_NAME = "autograding-scores.jsonl";
+    /** Default number of appended lines after which the index file is compacted. */
+    static final int DEFAULT_COMPACTION_INTERVAL = 1000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DELETED = "deleted";
+
+    @CheckForNull
+    private static volatile ScoreIndex instance;
+
+    private final Path file;
+    private final int compactionInterval;
+    private final Object lock = new Object();
+    private int appendedLines;
+
+    /**
+     * Initializes the shared index in the specified Jenkins home folder.
+     *
+     * @param rootDir
+     *         the Jenkins home folder
+     */
+    static void initialize(final Path rootDir) {
+        instance = new ScoreIndex(rootDir.resolve(FILE_NAME),
+                SystemProperties.getInteger(ScoreIndex.class.getName() + ".compactionInterval",
+                        DEFAULT_COMPACTION_INTERVAL));
+    }
+
+    /**
+     * Returns the index that is shared by all jobs.
+     *
+     * @return the shared index
+     * @throws IllegalStateException
+     *         if Jenkins has not been initialized yet
+     */
+    static ScoreIndex get() {
+        ScoreIndex index = instance;
+        if (index == null) {
+            throw new IllegalStateException("The score index has not been initialized yet");
+        }
+        return index;
+    }
+
+    /**
+     * Creates a new instance of {@link ScoreIndex}.
+     *
+     * @param file
+     *         the index file
+     */
+    ScoreIndex(final Path file) {
+        this(file, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a new instance of {@link ScoreIndex}.
+     *
+     * @param file
+     *         the index file
+     * @param compactionInterval
+     *         the number of appended lines after which the index file is compacted
+     */
+    ScoreIndex(final Path file, final int compactionInterval) {
+        this.file = file;
+        this.compactionInterval = Math.max(1, compactionInterval);
+    }
+
+    /**
+     * Appends the score of the specified build to the index.
+     *
+     * @param record
+     *         the score of the build
+     *
+     * @throws IOException
+     *         if the index file could not be written
+     */
+    void append(final Record record) throws IOException {
+        appendLine(record.toJson());
+    }
+
+    /**
+     * Removes the score of the specified build from the index.
+     *
+     * @param job
+     *         the full name of the job
+     * @param buildNumber
+     *         the number of the build
+     *
+     * @throws IOException
+     *         if the index file could not be written
+     */
+    void remove(final String job, final int buildNumber) throws IOException {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("job", job);
+        node.put("build", buildNumber);
+        node.put(DELETED, true);
+        appendLine(node.toString());
+    }
+
+    /**
+     * Moves the scores of the specified job to the new name of the job, e.g. after the job has been renamed or moved
+     * to another folder.
+     *
+     * @param oldFullName
+     *         the previous full name of the job
+     * @param newFullName
+     *         the new full name of the job
+     *
+     * @throws IOException
+     *         if the index file could not be written
+     */
+    void rename(final String oldFullName, final String newFullName) throws IOException {
+        synchronized (lock) {
+            Collection<Record> records = read(file, Long.MAX_VALUE).values();
+            if (records.stream().anyMatch(record -> record.getJob().equals(oldFullName))) {
+                write(records.stream()
+                        .map(record -> record.getJob().equals(oldFullName) ? record.withJob(newFullName) : record)
+                        .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private void appendLine(final String line) throws IOException {
+        synchronized (lock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(line);
+                writer.newLine();
+            }
+            appendedLines++;
+            if (appendedLines >= compactionInterval) {
+                write(read(file, Long.MAX_VALUE).values());
+            }
+        }
+    }
+
+    /**
+     * Returns the scores that match the specified query, sorted by time.
+     *
+     * @param query
+     *         the query
+     *
+     * @return the matching scores
+     * @throws IOException
+     *         if the index file could not be read
+     */
+    List<Record> query(final Predicate<Record> query) throws IOException {
+        return readSnapshot().stream()
+                .filter(query)
+                .sorted(Comparator.comparingLong(Record::getTimestamp).thenComparing(Record::getJob)
+                        .thenComparingInt(Record::getBuildNumber))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rebuilds the index from the results of the builds of the specified jobs. The scores of all other jobs in the
+     * index are retained, unless {@code replaceAll} is set.
+     *
+     * @param jobs
+     *         the jobs to rebuild the index for
+     * @param replaceAll
+     *         determines whether the scores of all other jobs should be removed from the index
+     *
+     * @return the number of indexed builds of the specified jobs
+     * @throws IOException
+     *         if the index file could not be written
+     */
+    int rebuild(final Collection<? extends Job<?, ?>> jobs, final boolean replaceAll) throws IOException {
+        List<Record> records = new ArrayList<>();
+        for (Job<?, ?> job : jobs) {
+            for (Run<?, ?> build : job.getBuilds()) {
+                AutoGradingBuildAction action = build.getAction(AutoGradingBuildAction.class);
+                if (action != null) {
+                    records.add(Record.of(build, action.getSummary()));
+                }
+            }
+        }
+
+        synchronized (lock) {
+            List<Record> retained = new ArrayList<>();
+            if (!replaceAll) {
+                Set<String> names = jobs.stream().map(Job::getFullName).collect(Collectors.toSet());
+                read(file, Long.MAX_VALUE).values().stream()
+                        .filter(record -> !names.contains(record.getJob()))
+                        .forEach(retained::add);
+            }
+            retained.addAll(records);
+            write(retained);
+        }
+        return records.size();
+    }
+
+    /**
+     * Replaces the index file with the specified records. Must be called while holding the lock.
+     */
+    private void write(final Collection<Record> records) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Record record : records) {
+                writer.write(record.toJson());
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        appendedLines = 0;
+    }
+
+    /**
+     * Reads the records that have been written so far. The lock is held only to determine the size of the file:
+     * lines that are appended while reading are ignored.
+     */
+    private Collection<Record> readSnapshot() throws IOException {
+        long size;
+        synchronized (lock) {
+            if (!Files.exists(file)) {
+                return Collections.emptyList();
+            }
+            size = Files.size(file);
+        }
+        return read(file, size).values();
+    }
+
+    private static Map<String, Record> read(final Path file, final long size) throws IOException {
+        Map<String, Record> records = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new BoundedInputStream(Files.newInputStream(file), size), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                readLine(line, records);
+                line = reader.readLine();
+            }
+        }
+        return records;
+    }
+
+    private static void readLine(final String line, final Map<String, Record> records) {
+        try {
+            JsonNode node = MAPPER.readTree(line);
+            if (node == null || !node.hasNonNull("job")) {
+                return; // skip broken lines, e.g. of a partially written record
+            }
+            String key = Record.createKey(node.path("job").asText(), node.path("build").asInt());
+            records.remove(key);
+            if (!node.path(DELETED).asBoolean()) {
+                records.put(key, Record.fromJson(node));
+            }
+        }
+        catch (JsonProcessingException exception) {
+            // skip broken lines, e.g. of a partially written record
+        }
+    }
+
+    /**
+     * The score summary of a build in the index.
+     */
+    static class Record {
+        private final String job;
+        private final int buildNumber;
+        private final long timestamp;
+        private final int achieved;
+        private final int total;
+        private final int ratio;
+        private final int testRatio;
+        private final int coverageRatio;
+        private final int pitRatio;
+        private final int analysisRatio;
+
+        /**
+         * Creates the record of the specified build.
+         *
+         * @param build
+         *         the build
+         * @param summary
+         *         the score of the build
+         *
+         * @return the record
+         */
+        static Record of(final Run<?, ?> build, final ScoreSummary summary) {
+            return of(build.getParent(), build, summary);
+        }
+
+        /**
+         * Creates the record of the specified build.
+         *
+         * @param job
+         *         the job of the build
+         * @param build
+         *         the build
+         * @param summary
+         *         the score of the build
+         *
+         * @return the record
+         */
+        static Record of(final Job<?, ?> job, final Run<?, ?> build, final ScoreSummary summary) {
+            return new Record(job.getFullName(), build.getNumber(), build.getTimeInMillis(),
+                    summary.getAchieved(), summary.getTotal(), summary.getRatio(), summary.getTestRatio(),
+                    summary.getCoverageRatio(), summary.getPitRatio(), summary.getAnalysisRatio());
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        Record(final String job, final int buildNumber, final long timestamp, final int achieved, final int total,
+                final int ratio, final int testRatio, final int coverageRatio, final int pitRatio,
+                final int analysisRatio) {
+            this.job = job;
+            this.buildNumber = buildNumber;
+            this.timestamp = timestamp;
+            this.achieved = achieved;
+            this.total = total;
+            this.ratio = ratio;
+            this.testRatio = testRatio;
+            this.coverageRatio = coverageRatio;
+            this.pitRatio = pitRatio;
+            this.analysisRatio = analysisRatio;
+        }
+
+        /**
+         * Returns a copy of this record for the job with the specified name.
+         *
+         * @param fullName
+         *         the full name of the job
+         *
+         * @return the copy of this record
+         */
+        Record withJob(final String fullName) {
+            return new Record(fullName, buildNumber, timestamp, achieved, total, ratio, testRatio, coverageRatio,
+                    pitRatio, analysisRatio);
+        }
+
+        private static Record fromJson(final JsonNode node) {
+            return new Record(node.path("job").asText(), node.path("build").asInt(),
+                    node.path("timestamp").asLong(), node.path("achieved").asInt(), node.path("total").asInt(),
+                    node.path("ratio").asInt(), node.path("tests").asInt(), node.path("coverage").asInt(),
+                    node.path("pit").asInt(), node.path("analysis").asInt());
+        }
+
+        private static String createKey(final String job, final int buildNumber) {
+            return job + '#' + buildNumber;
+        }
+
+        private String toJson() {
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put("job", job);
+            node.put("build", buildNumber);
+            node.put("timestamp", timestamp);
+            node.put("achieved", achieved);
+            node.put("total", total);
+            node.put("ratio", ratio);
+            node.put("tests", testRatio);
+            node.put("coverage", coverageRatio);
+            node.put("pit", pitRatio);
+            node.put("analysis", analysisRatio);
+            return node.toString();
+        }
+
+        String getJob() {
+            return job;
+        }
+
+        int getBuildNumber() {
+            return buildNumber;
+        }
+
+        long getTimestamp() {
+            return timestamp;
+        }
+
+        int getAchieved() {
+            return achieved;
+        }
+
+        int getTotal() {
+            return total;
+        }
+
+        int getRatio() {
+            return ratio;
+        }
+
+        int getTestRatio() {
+            return testRatio;
+        }
+
+        int getCoverageRatio() {
+            return coverageRatio;
+        }
+
+        int getPitRatio() {
+            return pitRatio;
+        }
+
+        int getAnalysisRatio() {
+            return analysisRatio;
+        }
+
+        /**
+         * Returns this record in CSV format.
+         *
+         * @return the CSV line
+         */
+        String toCsv() {
+            return String.join(",", '"' + job.replace("\"", "\"\"") + '"',
+                    String.valueOf(buildNumber), String.valueOf(timestamp),
+                    String.valueOf(achieved), String.valueOf(total), String.valueOf(ratio),
+                    String.valueOf(testRatio), String.valueOf(coverageRatio), String.valueOf(pitRatio),
+                    String.valueOf(analysisRatio));
+        }
+    }
+}
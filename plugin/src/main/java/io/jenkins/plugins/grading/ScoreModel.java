@@ -0,0 +1,147 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.CoverageConfiguration;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.TestConfiguration;
+
+/**
+ * Creates the JSON model of an {@link AggregatedScore}. The model contains the same information as the details view:
+ * the achieved scores and ratios, the progress chart models, the configured impacts, and the scores of all tools. The
+ * progress chart models are taken from the precomputed {@link ProgressChartModels}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreModel {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Creates the JSON model of the specified score.
+     *
+     * @param score
+     *         the score to convert
+     *
+     * @return the model as JSON
+     */
+    String create(final AggregatedScore score) {
+        ObjectNode model = MAPPER.createObjectNode();
+
+        ObjectNode total = model.putObject("total");
+        total.put("achieved", score.getAchieved());
+        total.put("total", score.getTotal());
+        addRatio(total, score.getRatio());
+
+        addTests(model.putObject("tests"), score);
+        addCoverage(model.putObject("coverage"), score);
+        addPit(model.putObject("pit"), score);
+        addAnalysis(model.putObject("analysis"), score);
+
+        return model.toString();
+    }
+
+    private void addTests(final ObjectNode node, final AggregatedScore score) {
+        TestConfiguration configuration = score.getTestConfiguration();
+        node.put("achieved", score.getTestAchieved());
+        node.put("maxScore", configuration.getMaxScore());
+        addRatio(node, score.getTestRatio());
+
+        ObjectNode impacts = node.putObject("impacts");
+        impacts.put("passed", configuration.getPassedImpact());
+        impacts.put("failed", configuration.getFailureImpact());
+        impacts.put("skipped", configuration.getSkippedImpact());
+
+        addScores(node, score.getTestScores(), (row, test) -> {
+            row.put("id", test.getId());
+            row.put("passed", test.getPassedSize());
+            row.put("failed", test.getFailedSize());
+            row.put("skipped", test.getSkippedSize());
+            row.put("total", test.getTotalSize());
+            row.put("impact", test.getTotalImpact());
+        });
+    }
+
+    private void addCoverage(final ObjectNode node, final AggregatedScore score) {
+        CoverageConfiguration configuration = score.getCoverageConfiguration();
+        node.put("achieved", score.getCoverageAchieved());
+        node.put("maxScore", configuration.getMaxScore());
+        addRatio(node, score.getCoverageRatio());
+
+        ObjectNode impacts = node.putObject("impacts");
+        impacts.put("coveredPercentage", configuration.getCoveredPercentageImpact());
+        impacts.put("missedPercentage", configuration.getMissedPercentageImpact());
+
+        addScores(node, score.getCoverageScores(), (row, coverage) -> {
+            row.put("name", coverage.getName());
+            row.put("coveredPercentage", coverage.getCoveredPercentage());
+            row.put("missedPercentage", coverage.getMissedPercentage());
+            row.put("impact", coverage.getTotalImpact());
+        });
+    }
+
+    private void addPit(final ObjectNode node, final AggregatedScore score) {
+        PitConfiguration configuration = score.getPitConfiguration();
+        node.put("achieved", score.getPitAchieved());
+        node.put("maxScore", configuration.getMaxScore());
+        addRatio(node, score.getPitRatio());
+
+        ObjectNode impacts = node.putObject("impacts");
+        impacts.put("detected", configuration.getDetectedImpact());
+        impacts.put("undetected", configuration.getUndetectedImpact());
+        impacts.put("detectedPercentage", configuration.getDetectedPercentageImpact());
+        impacts.put("undetectedPercentage", configuration.getUndetectedPercentageImpact());
+
+        addScores(node, score.getPitScores(), (row, pit) -> {
+            row.put("id", pit.getId());
+            row.put("detected", pit.getDetectedSize());
+            row.put("undetected", pit.getUndetectedSize());
+            row.put("detectedPercentage", pit.getDetectedPercentage());
+            row.put("undetectedPercentage", pit.getUndetectedPercentage());
+            row.put("impact", pit.getTotalImpact());
+        });
+    }
+
+    private void addAnalysis(final ObjectNode node, final AggregatedScore score) {
+        AnalysisConfiguration configuration = score.getAnalysisConfiguration();
+        node.put("achieved", score.getAnalysisAchieved());
+        node.put("maxScore", configuration.getMaxScore());
+        addRatio(node, score.getAnalysisRatio());
+
+        ObjectNode impacts = node.putObject("impacts");
+        impacts.put("errors", configuration.getErrorImpact());
+        impacts.put("high", configuration.getHighImpact());
+        impacts.put("normal", configuration.getNormalImpact());
+        impacts.put("low", configuration.getLowImpact());
+
+        addScores(node, score.getAnalysisScores(), (row, analysis) -> {
+            row.put("id", analysis.getId());
+            row.put("name", analysis.getName());
+            row.put("errors", analysis.getErrorsSize());
+            row.put("high", analysis.getHighSeveritySize());
+            row.put("normal", analysis.getNormalSeveritySize());
+            row.put("low", analysis.getLowSeveritySize());
+            row.put("total", analysis.getTotalSize());
+            row.put("impact", analysis.getTotalImpact());
+        });
+    }
+
+    private void addRatio(final ObjectNode node, final int ratio) {
+        node.put("ratio", ratio);
+        node.putRawValue("progress", new RawValue(ProgressChartModels.get(ratio)));
+    }
+
+    private <T> void addScores(final ObjectNode node, final List<T> scores, final BiConsumer<ObjectNode, T> mapper) {
+        ArrayNode rows = node.putArray("scores");
+        for (T score : scores) {
+            mapper.accept(rows.addObject(), score);
+        }
+    }
+}
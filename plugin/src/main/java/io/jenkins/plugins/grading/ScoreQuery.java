@@ -0,0 +1,74 @@
+package io.jenkins.plugins.grading;
+
+import java.util.function.Predicate;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import io.jenkins.plugins.grading.ScoreIndex.Record;
+
+/**
+ * A query of the {@link ScoreIndex}. A query selects the scores of a job within a range of time and a range of total
+ * scores. All criteria are optional: by default, all scores are selected.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreQuery implements Predicate<Record> {
+    @CheckForNull
+    private String job;
+    private long from = Long.MIN_VALUE;
+    private long to = Long.MAX_VALUE;
+    private int minRatio = Integer.MIN_VALUE;
+    private int maxRatio = Integer.MAX_VALUE;
+
+    /**
+     * Selects the scores of the specified job.
+     *
+     * @param fullName
+     *         the full name of the job, or {@code null} to select the scores of all jobs
+     *
+     * @return this query
+     */
+    ScoreQuery withJob(@CheckForNull final String fullName) {
+        job = fullName;
+        return this;
+    }
+
+    /**
+     * Selects the scores of the builds that have been started in the specified range of time.
+     *
+     * @param start
+     *         the start of the range in milliseconds since the epoch (inclusive)
+     * @param end
+     *         the end of the range in milliseconds since the epoch (exclusive)
+     *
+     * @return this query
+     */
+    ScoreQuery withTime(final long start, final long end) {
+        from = start;
+        to = end;
+        return this;
+    }
+
+    /**
+     * Selects the scores with a total score (in percent) in the specified range.
+     *
+     * @param min
+     *         the minimum score (inclusive)
+     * @param max
+     *         the maximum score (inclusive)
+     *
+     * @return this query
+     */
+    ScoreQuery withRatio(final int min, final int max) {
+        minRatio = min;
+        maxRatio = max;
+        return this;
+    }
+
+    @Override
+    public boolean test(final Record record) {
+        return (job == null || job.equals(record.getJob()))
+                && record.getTimestamp() >= from && record.getTimestamp() < to
+                && record.getRatio() >= minRatio && record.getRatio() <= maxRatio;
+    }
+}
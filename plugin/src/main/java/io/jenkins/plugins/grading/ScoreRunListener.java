@@ -0,0 +1,99 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import hudson.Extension;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import jenkins.model.Jenkins;
+
+/**
+ * Updates the {@link Leaderboard} and the {@link ScoreIndex} whenever a build with autograding results has been
+ * completed. Removes the results of deleted builds from the {@link ResultCache}, the {@link ScoreIndex}, the
+ * {@link Leaderboard}, and the trend of the job (see {@link AutoGradingJobAction}).
+ *
+ * @author Ullrich Hafner
+ */
+@Extension
+public class ScoreRunListener extends RunListener<Run<?, ?>> {
+    private static final Logger LOGGER = Logger.getLogger(ScoreRunListener.class.getName());
+
+    @Override
+    public void onCompleted(final Run<?, ?> run, @NonNull final TaskListener listener) {
+        AutoGradingBuildAction action = run.getAction(AutoGradingBuildAction.class);
+        if (action != null) {
+            ScoreSummary summary = action.getSummary();
+            Leaderboard.get().update(run.getParent(), run, summary);
+            try {
+                ScoreIndex.get().append(ScoreIndex.Record.of(run, summary));
+            }
+            catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Can't add the score of " + run.getExternalizableId() + " to the index",
+                        exception);
+            }
+        }
+    }
+
+    @Override
+    public void onDeleted(final Run<?, ?> run) {
+        ResultCache.get().invalidate(run.getExternalizableId());
+        if (run.getAction(AutoGradingBuildAction.class) != null) {
+            AutoGradingJobAction.invalidateTrend(run.getParent());
+            try {
+                ScoreIndex.get().remove(run.getParent().getFullName(), run.getNumber());
+            }
+            catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Can't remove the score of " + run.getExternalizableId()
+                        + " from the index", exception);
+            }
+            Leaderboard.get().remove(run.getParent().getFullName(), run.getNumber());
+        }
+    }
+
+    /**
+     * Initializes the {@link ScoreIndex} in the Jenkins home folder.
+     *
+     * @param jenkins
+     *         the Jenkins instance
+     */
+    @Initializer(after = InitMilestone.PLUGINS_STARTED)
+    public static void initializeScoreIndex(final Jenkins jenkins) {
+        ScoreIndex.initialize(jenkins.getRootDir().toPath());
+    }
+
+    /**
+     * Removes deleted jobs from the {@link Leaderboard} and moves the scores of renamed jobs in the {@link Leaderboard}
+     * and the {@link ScoreIndex} to the new name of the job.
+     */
+    @Extension
+    public static class LeaderboardItemListener extends ItemListener {
+        @Override
+        public void onDeleted(final Item item) {
+            Leaderboard.get().remove(item.getFullName());
+        }
+
+        @Override
+        public void onLocationChanged(final Item item, final String oldFullName, final String newFullName) {
+            if (item instanceof Job) {
+                Leaderboard.get().rename(oldFullName, newFullName);
+                try {
+                    ScoreIndex.get().rename(oldFullName, newFullName);
+                }
+                catch (IOException exception) {
+                    LOGGER.log(Level.WARNING, "Can't move the scores of " + oldFullName + " to " + newFullName
+                            + " in the index", exception);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statistics of the total scores of several jobs. The total scores are given as percentages of the maximum score.
+ * Percentiles are computed using the nearest rank method.
+ *
+ * @author Ullrich Hafner
+ */
+public class ScoreStatistics {
+    private final int[] ratios;
+
+    /**
+     * Creates the statistics of the specified leaderboard entries.
+     *
+     * @param entries
+     *         the entries of the leaderboard
+     */
+    ScoreStatistics(final List<Leaderboard.Entry> entries) {
+        ratios = entries.stream().mapToInt(Leaderboard.Entry::getRatio).sorted().toArray();
+    }
+
+    public int getCount() {
+        return ratios.length;
+    }
+
+    public int getMin() {
+        return ratios.length == 0 ? 0 : ratios[0];
+    }
+
+    public int getMax() {
+        return ratios.length == 0 ? 0 : ratios[ratios.length - 1];
+    }
+
+    /**
+     * Returns the mean of the total scores, rounded to one decimal place.
+     *
+     * @return the mean, or 0 if there are no scores
+     */
+    public double getMean() {
+        return Math.round(Arrays.stream(ratios).average().orElse(0) * 10) / 10.0;
+    }
+
+    public int getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the specified percentile of the total scores, i.e. the smallest score such that at least the specified
+     * percentage of the scores is less than or equal to this score.
+     *
+     * @param percentile
+     *         the percentile, a value between 0 and 100
+     *
+     * @return the percentile, or 0 if there are no scores
+     */
+    public int getPercentile(final int percentile) {
+        if (ratios.length == 0) {
+            return 0;
+        }
+        int bounded = Math.max(0, Math.min(100, percentile));
+        int rank = (int) Math.ceil(bounded / 100.0 * ratios.length);
+        return ratios[Math.max(0, rank - 1)];
+    }
+}
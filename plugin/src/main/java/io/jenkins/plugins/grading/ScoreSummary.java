@@ -0,0 +1,134 @@
+package io.jenkins.plugins.grading;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+/**
+ * A summary of an {@link AggregatedScore}: contains the achieved and total score as well as the achieved score and the
+ * ratio of each category. The summary is stored together with the build action in the {@code build.xml} file, so
+ * the build summary and the trend charts can be rendered without reading the full results of a build.
+ *
+ * @author Ullrich Hafner
+ */
+public final class ScoreSummary implements Serializable {
+    private static final long serialVersionUID = 4618290467214537419L;
+
+    private final int achieved;
+    private final int total;
+    private final int ratio;
+
+    private final int analysisAchieved;
+    private final int analysisRatio;
+    private final int testAchieved;
+    private final int testRatio;
+    private final int coverageAchieved;
+    private final int coverageRatio;
+    private final int pitAchieved;
+    private final int pitRatio;
+
+    /**
+     * Creates a summary of the specified score.
+     *
+     * @param score
+     *         the score to summarize
+     *
+     * @return the summary
+     */
+    static ScoreSummary of(final AggregatedScore score) {
+        return new ScoreSummary(score);
+    }
+
+    private ScoreSummary(final AggregatedScore score) {
+        achieved = score.getAchieved();
+        total = score.getTotal();
+        ratio = score.getRatio();
+
+        analysisAchieved = score.getAnalysisAchieved();
+        analysisRatio = score.getAnalysisRatio();
+        testAchieved = score.getTestAchieved();
+        testRatio = score.getTestRatio();
+        coverageAchieved = score.getCoverageAchieved();
+        coverageRatio = score.getCoverageRatio();
+        pitAchieved = score.getPitAchieved();
+        pitRatio = score.getPitRatio();
+    }
+
+    public int getAchieved() {
+        return achieved;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getRatio() {
+        return ratio;
+    }
+
+    public int getAnalysisAchieved() {
+        return analysisAchieved;
+    }
+
+    public int getAnalysisRatio() {
+        return analysisRatio;
+    }
+
+    public int getTestAchieved() {
+        return testAchieved;
+    }
+
+    public int getTestRatio() {
+        return testRatio;
+    }
+
+    public int getCoverageAchieved() {
+        return coverageAchieved;
+    }
+
+    public int getCoverageRatio() {
+        return coverageRatio;
+    }
+
+    public int getPitAchieved() {
+        return pitAchieved;
+    }
+
+    public int getPitRatio() {
+        return pitRatio;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ScoreSummary that = (ScoreSummary) o;
+        return achieved == that.achieved
+                && total == that.total
+                && ratio == that.ratio
+                && analysisAchieved == that.analysisAchieved
+                && analysisRatio == that.analysisRatio
+                && testAchieved == that.testAchieved
+                && testRatio == that.testRatio
+                && coverageAchieved == that.coverageAchieved
+                && coverageRatio == that.coverageRatio
+                && pitAchieved == that.pitAchieved
+                && pitRatio == that.pitRatio;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(achieved, total, ratio, analysisAchieved, analysisRatio, testAchieved, testRatio,
+                coverageAchieved, coverageRatio, pitAchieved, pitRatio);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d (%d%%)", achieved, total, ratio);
+    }
+}
@@ -0,0 +1,182 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+/**
+ * The rows of one of the score tables of the details view. The rows are provided in windows using the protocol of the
+ * server side processing mode of DataTables: the client requests a window of rows that is filtered by a search term
+ * and sorted by a column. Only the rows of the requested window are sent to the client.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreTable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String URL = "url";
+
+    private final List<String> columns;
+    private final List<Map<String, Object>> rows;
+
+    /**
+     * Creates the table with the specified ID for the given score.
+     *
+     * @param id
+     *         the ID of the table, one of {@code tests}, {@code coverage}, {@code pit}, or {@code analysis}
+     * @param score
+     *         the score that provides the rows
+     *
+     * @return the table
+     * @throws NoSuchElementException
+     *         if there is no table with the specified ID
+     */
+    static ScoreTable create(final String id, final AggregatedScore score) {
+        switch (StringUtils.defaultString(id)) {
+            case "tests":
+                return new ScoreTable(score.getTestScores(), test -> createRow("../testReport",
+                        "id", test.getId(),
+                        "passed", test.getPassedSize(),
+                        "failed", test.getFailedSize(),
+                        "skipped", test.getSkippedSize(),
+                        "total", test.getTotalSize(),
+                        "impact", test.getTotalImpact()));
+            case "coverage":
+                return new ScoreTable(score.getCoverageScores(), coverage -> createRow("../coverage",
+                        "name", coverage.getName(),
+                        "coveredPercentage", coverage.getCoveredPercentage(),
+                        "missedPercentage", coverage.getMissedPercentage(),
+                        "impact", coverage.getTotalImpact()));
+            case "pit":
+                return new ScoreTable(score.getPitScores(), pit -> createRow("../pitmutation",
+                        "id", pit.getId(),
+                        "detected", pit.getDetectedSize(),
+                        "undetected", pit.getUndetectedSize(),
+                        "detectedPercentage", pit.getDetectedPercentage(),
+                        "undetectedPercentage", pit.getUndetectedPercentage(),
+                        "impact", pit.getTotalImpact()));
+            case "analysis":
+                return new ScoreTable(score.getAnalysisScores(), analysis -> createRow("../" + analysis.getId(),
+                        "name", analysis.getName(),
+                        "errors", analysis.getErrorsSize(),
+                        "high", analysis.getHighSeveritySize(),
+                        "normal", analysis.getNormalSeveritySize(),
+                        "low", analysis.getLowSeveritySize(),
+                        "total", analysis.getTotalSize(),
+                        "impact", analysis.getTotalImpact()));
+            default:
+                throw new NoSuchElementException("No such table: " + id);
+        }
+    }
+
+    private static Map<String, Object> createRow(final String url, final Object... keysAndValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            row.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        row.put(URL, url);
+        return row;
+    }
+
+    private <T> ScoreTable(final List<T> scores, final Function<T, Map<String, Object>> rowMapper) {
+        rows = scores.stream().map(rowMapper).collect(Collectors.toList());
+        columns = rows.isEmpty() ? new ArrayList<>()
+                : rows.get(0).keySet().stream().filter(key -> !URL.equals(key)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Returns a window of rows in the JSON format of DataTables.
+     *
+     * @param draw
+     *         the draw counter of the client, returned unchanged
+     * @param start
+     *         the index of the first row of the window
+     * @param length
+     *         the number of rows in the window, a negative value selects all rows
+     * @param search
+     *         the search term, rows that contain this term in any column are selected
+     * @param orderColumn
+     *         the key of the column to sort the rows by, rows are not sorted if there is no such column
+     * @param ascending
+     *         determines whether the rows should be sorted in ascending or descending order
+     *
+     * @return the window of rows as JSON
+     */
+    String getRows(final int draw, final int start, final int length, final String search,
+            final String orderColumn, final boolean ascending) {
+        List<Map<String, Object>> selected = filter(search);
+        sort(selected, orderColumn, ascending);
+
+        int from = Math.min(Math.max(0, start), selected.size());
+        int to = length < 0 ? selected.size() : Math.min(selected.size(), from + length);
+
+        ObjectNode page = MAPPER.createObjectNode();
+        page.put("draw", draw);
+        page.put("recordsTotal", rows.size());
+        page.put("recordsFiltered", selected.size());
+        ArrayNode data = page.putArray("data");
+        for (Map<String, Object> row : selected.subList(from, to)) {
+            data.add(MAPPER.valueToTree(row));
+        }
+        return page.toString();
+    }
+
+    private List<Map<String, Object>> filter(final String search) {
+        if (StringUtils.isBlank(search)) {
+            return new ArrayList<>(rows);
+        }
+        String term = search.trim().toLowerCase(Locale.ENGLISH);
+        return rows.stream()
+                .filter(row -> columns.stream()
+                        .map(column -> String.valueOf(row.get(column)).toLowerCase(Locale.ENGLISH))
+                        .anyMatch(value -> value.contains(term)))
+                .collect(Collectors.toList());
+    }
+
+    private void sort(final List<Map<String, Object>> selected, final String column, final boolean ascending) {
+        if (!columns.contains(column)) {
+            return;
+        }
+        Comparator<Map<String, Object>> comparator = (left, right) -> compare(left.get(column), right.get(column));
+        selected.sort(ascending ? comparator : comparator.reversed());
+    }
+
+    private static int compare(final Object left, final Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        }
+        return String.valueOf(left).compareToIgnoreCase(String.valueOf(right));
+    }
+
+    /**
+     * Returns the keys of the columns of this table.
+     *
+     * @return the column keys
+     */
+    List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+}
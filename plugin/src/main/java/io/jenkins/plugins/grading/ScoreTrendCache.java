@@ -0,0 +1,137 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+/**
+ * Caches the score summaries of the builds of a job that are shown in the trend chart. The cache of a job is updated
+ * incrementally: on each request only the builds that have been started after the previous request are visited.
+ * Builds that are still running are visited again on the next request. The cache contains at most {@code maxBuilds}
+ * builds of a job.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreTrendCache {
+    /** Default maximum number of builds that will be shown in the trend. */
+    static final int DEFAULT_MAX_BUILDS = 50;
+
+    private final int maxBuilds;
+    private final Map<Job<?, ?>, Trend> trends = new WeakHashMap<>();
+
+    /**
+     * Creates a new instance of {@link ScoreTrendCache}.
+     *
+     * @param maxBuilds
+     *         the maximum number of builds per job
+     */
+    ScoreTrendCache(final int maxBuilds) {
+        this.maxBuilds = maxBuilds;
+    }
+
+    /**
+     * Returns the score summaries of the latest builds of the specified job, sorted by build number in ascending
+     * order.
+     *
+     * @param job
+     *         the job to get the scores for
+     *
+     * @return the score summaries of the builds
+     */
+    List<BuildScore> getScores(final Job<?, ?> job) {
+        Trend trend;
+        synchronized (trends) {
+            trend = trends.computeIfAbsent(job, key -> new Trend());
+        }
+        return trend.update(job.getLastBuild(), maxBuilds);
+    }
+
+    /**
+     * Removes the cached scores of the specified job. The scores will be visited again on the next request.
+     *
+     * @param job
+     *         the job to remove the scores for
+     */
+    void invalidate(final Job<?, ?> job) {
+        synchronized (trends) {
+            trends.remove(job);
+        }
+    }
+
+    /**
+     * The score summary of a build.
+     */
+    static class BuildScore {
+        private final int number;
+        private final String displayName;
+        private final ScoreSummary summary;
+
+        BuildScore(final int number, final String displayName, final ScoreSummary summary) {
+            this.number = number;
+            this.displayName = displayName;
+            this.summary = summary;
+        }
+
+        int getNumber() {
+            return number;
+        }
+
+        String getDisplayName() {
+            return displayName;
+        }
+
+        ScoreSummary getSummary() {
+            return summary;
+        }
+    }
+
+    /**
+     * The cached scores of a single job.
+     */
+    private static class Trend {
+        private final NavigableMap<Integer, BuildScore> scores = new TreeMap<>();
+        private int lastVisited;
+
+        synchronized List<BuildScore> update(@CheckForNull final Run<?, ?> lastBuild, final int maxBuilds) {
+            if (lastBuild == null) {
+                scores.clear();
+                lastVisited = 0;
+                return Collections.emptyList();
+            }
+            if (lastBuild.getNumber() < lastVisited) { // builds have been deleted, start from scratch
+                scores.clear();
+                lastVisited = 0;
+            }
+
+            int oldestRunning = Integer.MAX_VALUE;
+            int visited = 0;
+            for (Run<?, ?> run = lastBuild; run != null && run.getNumber() > lastVisited && visited < maxBuilds;
+                    run = run.getPreviousBuild()) {
+                if (run.isBuilding()) {
+                    oldestRunning = run.getNumber();
+                }
+                AutoGradingBuildAction action = run.getAction(AutoGradingBuildAction.class);
+                if (action != null) {
+                    scores.put(run.getNumber(), new BuildScore(run.getNumber(), run.getDisplayName(),
+                            action.getSummary()));
+                    visited++;
+                }
+            }
+            lastVisited = oldestRunning == Integer.MAX_VALUE ? lastBuild.getNumber() : oldestRunning - 1;
+
+            while (scores.size() > maxBuilds) {
+                scores.pollFirstEntry();
+            }
+            return new ArrayList<>(scores.values());
+        }
+    }
+}
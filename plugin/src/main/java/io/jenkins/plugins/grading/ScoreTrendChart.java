@@ -0,0 +1,58 @@
+package io.jenkins.plugins.grading;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.echarts.LineSeries;
+import edu.hm.hafner.echarts.LineSeries.FilledMode;
+import edu.hm.hafner.echarts.LineSeries.StackedMode;
+import edu.hm.hafner.echarts.LinesChartModel;
+
+import io.jenkins.plugins.grading.ScoreTrendCache.BuildScore;
+
+/**
+ * Builds the model of a trend chart that shows the total score ratio and the ratios of the individual categories of
+ * several builds.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreTrendChart {
+    private static final String TOTAL_COLOR = "#1976d2";
+    private static final String TESTS_COLOR = "#388e3c";
+    private static final String COVERAGE_COLOR = "#fbc02d";
+    private static final String PIT_COLOR = "#7b1fa2";
+    private static final String ANALYSIS_COLOR = "#d32f2f";
+
+    /**
+     * Creates the chart model for the specified scores.
+     *
+     * @param scores
+     *         the scores of the builds, sorted by build number in ascending order
+     *
+     * @return the chart model
+     */
+    LinesChartModel create(final List<BuildScore> scores) {
+        LinesChartModel model = new LinesChartModel();
+
+        model.setDomainAxisLabels(scores.stream().map(BuildScore::getDisplayName).collect(Collectors.toList()));
+        model.setBuildNumbers(scores.stream().map(BuildScore::getNumber).collect(Collectors.toList()));
+
+        model.addSeries(createSeries(scores, Messages.Trend_Total(), TOTAL_COLOR, ScoreSummary::getRatio),
+                createSeries(scores, Messages.Trend_Tests(), TESTS_COLOR, ScoreSummary::getTestRatio),
+                createSeries(scores, Messages.Trend_Coverage(), COVERAGE_COLOR, ScoreSummary::getCoverageRatio),
+                createSeries(scores, Messages.Trend_Pit(), PIT_COLOR, ScoreSummary::getPitRatio),
+                createSeries(scores, Messages.Trend_Analysis(), ANALYSIS_COLOR, ScoreSummary::getAnalysisRatio));
+
+        return model;
+    }
+
+    private LineSeries createSeries(final List<BuildScore> scores, final String name, final String color,
+            final ToIntFunction<ScoreSummary> ratio) {
+        LineSeries series = new LineSeries(name, color, StackedMode.SEPARATE_LINES, FilledMode.LINES);
+        for (BuildScore score : scores) {
+            series.add(ratio.applyAsInt(score.getSummary()));
+        }
+        return series;
+    }
+}
@@ -0,0 +1,41 @@
+/* global jQuery3 */
+/**
+ * Initializes all score tables that provide a 'data-table-url' attribute. The rows of these tables are loaded on
+ * demand from the server: paging, sorting, and filtering is done on the server side.
+ */
+(function ($) {
+    function escapeHtml(text) {
+        return String(text)
+            .replace(/&/g, '&amp;')
+            .replace(/</g, '&lt;')
+            .replace(/>/g, '&gt;')
+            .replace(/"/g, '&quot;')
+            .replace(/'/g, '&#39;');
+    }
+
+    $(document).ready(function () {
+        $('table[data-table-url]').each(function () {
+            var table = $(this);
+            var columns = table.find('thead th[data-column]').map(function (index) {
+                var column = {data: $(this).data('column')};
+                if (index === 0) {
+                    column.render = function (data, type, row) {
+                        if (type === 'display' && row.url) {
+                            return '<a href="' + escapeHtml(row.url) + '">' + escapeHtml(data) + '</a>';
+                        }
+                        return data;
+                    };
+                }
+                return column;
+            }).get();
+
+            table.DataTable({
+                serverSide: true,
+                processing: true,
+                pagingType: 'numbers',
+                ajax: table.data('table-url'),
+                columns: columns
+            });
+        });
+    });
+})(jQuery3);
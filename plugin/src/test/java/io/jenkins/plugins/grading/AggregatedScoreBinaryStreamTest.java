@@ -0,0 +1,116 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.ResourceTest;
+
+import static io.jenkins.plugins.grading.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link AggregatedScoreBinaryStream}.
+ *
+ * @author Ullrich Hafner
+ */
+class AggregatedScoreBinaryStreamTest extends ResourceTest {
+    private static final String BINARY_FILE_NAME = "auto-grading.bin";
+
+    @Test
+    void shouldReadXmlFileIfBinaryFileDoesNotExist() throws IOException {
+        Path folder = Files.createTempDirectory("build");
+        Files.copy(getResourceAsFile("auto-grading.xml"), folder.resolve(AggregatedScoreBinaryStream.XML_FILE_NAME));
+
+        verifyStream(new AggregatedScoreBinaryStream().read(folder.resolve(BINARY_FILE_NAME)));
+    }
+
+    @Test
+    void shouldReadXmlContentWithoutHeader() {
+        verifyStream(new AggregatedScoreBinaryStream().read(getResourceAsFile("auto-grading.xml")));
+    }
+
+    @Test
+    void shouldWriteAndReadBinaryFormat() throws IOException {
+        AggregatedScoreBinaryStream stream = new AggregatedScoreBinaryStream();
+        AggregatedScore score = new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml"));
+
+        Path folder = Files.createTempDirectory("build");
+        Path binary = folder.resolve(BINARY_FILE_NAME);
+        stream.write(binary, score);
+
+        byte[] content = Files.readAllBytes(binary);
+        assertThat(new String(content, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("AGBS");
+
+        AggregatedScore restored = stream.read(binary);
+        verifyStream(restored);
+        assertThat(restored.getAnalysisScores()).isEqualTo(score.getAnalysisScores());
+        assertThat(restored.getTestScores()).isEqualTo(score.getTestScores());
+        assertThat(restored.getCoverageScores()).isEqualTo(score.getCoverageScores());
+        assertThat(restored.getPitScores()).isEqualTo(score.getPitScores());
+        assertThat(restored.getAnalysisConfiguration().getMaxScore())
+                .isEqualTo(score.getAnalysisConfiguration().getMaxScore());
+    }
+
+    @Test
+    void shouldWriteAndReadMessagesOfLog() throws IOException {
+        FilteredLog log = new FilteredLog(AutoGrader.LOG_TITLE);
+        AggregatedScore score = new AggregatedScore("{\"tests\":{\"maxScore\":100}}", log);
+        String longMessage = StringUtils.repeat("\u00c4", 40_000);
+        log.logInfo("Reusing coverage scores of the previous build since the results did not change");
+        log.logInfo(longMessage);
+        log.logError("Skipping coverage metric '%s' since it is not part of the coverage results", "Lines");
+
+        AggregatedScoreBinaryStream stream = new AggregatedScoreBinaryStream();
+        Path binary = Files.createTempDirectory("build").resolve(BINARY_FILE_NAME);
+        stream.write(binary, score);
+
+        AggregatedScore restored = stream.read(binary);
+        assertThat(restored.getInfoMessages()).isEqualTo(score.getInfoMessages())
+                .contains("Reusing coverage scores of the previous build since the results did not change",
+                        longMessage);
+        assertThat(restored.getErrorMessages()).isEqualTo(score.getErrorMessages())
+                .contains("Skipping coverage metric 'Lines' since it is not part of the coverage results");
+    }
+
+    @Test
+    void shouldNotDependOnJavaSerialization() throws IOException {
+        AggregatedScoreBinaryStream stream = new AggregatedScoreBinaryStream();
+        Path binary = Files.createTempDirectory("build").resolve(BINARY_FILE_NAME);
+        stream.write(binary, new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml")));
+
+        String content = new String(Files.readAllBytes(binary), StandardCharsets.ISO_8859_1);
+        assertThat(content).doesNotContain("edu.hm.hafner", "java.util");
+    }
+
+    @Test
+    void shouldReturnDefaultForUnsupportedVersionOrBrokenContent() throws IOException {
+        Path folder = Files.createTempDirectory("build");
+        Path binary = folder.resolve(BINARY_FILE_NAME);
+
+        Files.write(binary, new byte[] {'A', 'G', 'B', 'S', 0, 0, 0, 1, 42});
+        assertThat(new AggregatedScoreBinaryStream().read(binary))
+                .hasAnalysisAchieved(0).hasTestAchieved(0).hasCoverageAchieved(0).hasPitAchieved(0);
+
+        Files.write(binary, new byte[] {'A', 'G', 'B', 'S', 0, 0, 0, 2, 0, 0, 0, 20, 0, 0, 0, 100});
+        assertThat(new AggregatedScoreBinaryStream().read(binary))
+                .hasAnalysisAchieved(0).hasTestAchieved(0).hasCoverageAchieved(0).hasPitAchieved(0);
+
+        Files.write(binary, new byte[] {'A', 'G', 'B', 'S', 0, 0, 0, 2, -1, -1, -1, -1});
+        assertThat(new AggregatedScoreBinaryStream().read(binary))
+                .hasAnalysisAchieved(0).hasTestAchieved(0).hasCoverageAchieved(0).hasPitAchieved(0);
+    }
+
+    private void verifyStream(final AggregatedScore score) {
+        assertThat(score).hasAnalysisAchieved(79);
+        assertThat(score.getAnalysisScores()).hasSize(8);
+        assertThat(score).hasTestAchieved(60);
+        assertThat(score).hasCoverageAchieved(78);
+        assertThat(score).hasPitAchieved(73);
+    }
+}
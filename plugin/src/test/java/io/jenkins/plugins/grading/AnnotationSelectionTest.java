@@ -0,0 +1,224 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+import io.jenkins.plugins.checks.api.ChecksAnnotation;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link AnnotationSelection}.
+ *
+ * @author Ullrich Hafner
+ */
+class AnnotationSelectionTest {
+    private final List<Issue> converted = new ArrayList<>();
+
+    @Test
+    void shouldCreateNoAnnotationsForEmptyReports() {
+        AnnotationSelection<ChecksAnnotation> selection = createSelection(10, new Report(), new Report());
+
+        assertThat(selection.getTotalSize()).isZero();
+        assertThat(selection.getSelectedSize()).isZero();
+        assertThat(selection.getMergedSize()).isZero();
+        assertThat(selection.getTruncatedSize()).isZero();
+        assertThat(selection.createAnnotations()).isEmpty();
+    }
+
+    @Test
+    void shouldConvertAllSelectedIssues() {
+        Report report = createReport(Severity.WARNING_NORMAL, 7);
+
+        AnnotationSelection<ChecksAnnotation> selection = createSelection(100, report);
+
+        assertThat(selection.getTotalSize()).isEqualTo(7);
+        assertThat(selection.getSelectedSize()).isEqualTo(7);
+        assertThat(selection.getTruncatedSize()).isZero();
+        assertThat(selection.createAnnotations()).hasSize(7);
+        assertThat(converted).extracting(Issue::getLineStart).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void shouldConvertIssuesOnlyWhenAnnotationsAreRequested() {
+        AnnotationSelection<ChecksAnnotation> selection = createSelection(100, createReport(Severity.WARNING_LOW, 4));
+
+        assertThat(converted).isEmpty();
+
+        selection.createAnnotations();
+
+        assertThat(converted).hasSize(4);
+    }
+
+    @Test
+    void shouldPreferIssuesWithHigherSeverity() {
+        Report low = createReport(Severity.WARNING_LOW, 3);
+        Report normal = createReport(Severity.WARNING_NORMAL, 3);
+        Report errors = createReport(Severity.ERROR, 2);
+        Report high = createReport(Severity.WARNING_HIGH, 2);
+
+        AnnotationSelection<ChecksAnnotation> selection = createSelection(5, low, normal, errors, high);
+
+        assertThat(selection.getTotalSize()).isEqualTo(10);
+        assertThat(selection.getSelectedSize()).isEqualTo(5);
+        assertThat(selection.getTruncatedSize()).isEqualTo(5);
+
+        selection.createAnnotations();
+        assertThat(converted).extracting(Issue::getSeverity).containsExactly(
+                Severity.ERROR, Severity.ERROR,
+                Severity.WARNING_HIGH, Severity.WARNING_HIGH,
+                Severity.WARNING_NORMAL);
+        assertThat(converted.get(4).getLineStart()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipAllIssuesIfAnnotationsAreDisabled() {
+        AnnotationSelection<ChecksAnnotation> selection = createSelection(0, createReport(Severity.ERROR, 3));
+
+        assertThat(selection.getTotalSize()).isEqualTo(3);
+        assertThat(selection.getSelectedSize()).isZero();
+        assertThat(selection.getTruncatedSize()).isEqualTo(3);
+        assertThat(selection.createAnnotations()).isEmpty();
+    }
+
+    @Test
+    void shouldMergeDuplicatesOfDifferentTools() {
+        Report checkStyle = createReport(Severity.WARNING_NORMAL, 3, "checkstyle");
+        Report pmd = createReport(Severity.WARNING_HIGH, 2, "pmd");
+        Report spotBugs = createReport(Severity.WARNING_LOW, 1, "spotbugs");
+        List<Collection<String>> origins = new ArrayList<>();
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(
+                Arrays.asList(checkStyle, pmd, spotBugs), 100,
+                issue -> issue.getFileName() + ":" + issue.getLineStart(),
+                (issue, merged) -> {
+                    converted.add(issue);
+                    origins.add(new ArrayList<>(merged));
+                    return null;
+                });
+
+        assertThat(selection.getTotalSize()).isEqualTo(6);
+        assertThat(selection.getSelectedSize()).isEqualTo(3);
+        assertThat(selection.getMergedSize()).isEqualTo(3);
+        assertThat(selection.getTruncatedSize()).isZero();
+
+        selection.createAnnotations();
+        assertThat(converted).extracting(Issue::getLineStart).containsExactly(1, 2, 3);
+        assertThat(converted).extracting(Issue::getSeverity).containsExactly(
+                Severity.WARNING_HIGH, Severity.WARNING_HIGH, Severity.WARNING_NORMAL);
+        assertThat(origins).containsExactly(
+                Arrays.asList("checkstyle", "pmd", "spotbugs"),
+                Arrays.asList("checkstyle", "pmd"),
+                Collections.singletonList("checkstyle"));
+    }
+
+    @Test
+    void shouldCountMergedAndTruncatedIssuesSeparately() {
+        Report checkStyle = createReport(Severity.WARNING_HIGH, 3, "checkstyle");
+        Report pmd = createReport(Severity.WARNING_NORMAL, 3, "pmd");
+        Report spotBugs = createReport(Severity.WARNING_LOW, 4, "spotbugs");
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(
+                Arrays.asList(checkStyle, pmd, spotBugs), 2, Issue::getMessage, (issue, merged) -> null);
+
+        assertThat(selection.getTotalSize()).isEqualTo(10);
+        assertThat(selection.getSelectedSize()).isEqualTo(2);
+        assertThat(selection.getMergedSize()).isEqualTo(4);
+        assertThat(selection.getTruncatedSize()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldComputeKeyOnlyForIssuesAtLocationOfSelectedIssue() {
+        Report checkStyle = createReport(Severity.WARNING_NORMAL, 3, "checkstyle");
+        Report pmd = createReport(Severity.WARNING_LOW, 1, "pmd");
+        List<Issue> keys = new ArrayList<>();
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(Arrays.asList(checkStyle, pmd), 100,
+                issue -> {
+                    keys.add(issue);
+                    return issue.getMessage();
+                },
+                (issue, merged) -> null);
+
+        assertThat(selection.getSelectedSize()).isEqualTo(3);
+        assertThat(keys).extracting(Issue::getOrigin).containsExactly("pmd", "checkstyle");
+        assertThat(keys).extracting(Issue::getLineStart).containsOnly(1);
+    }
+
+    @Test
+    void shouldNotComputeKeyIfIssuesHaveDifferentLocations() {
+        Report errors = createReport(Severity.ERROR, 3, "checkstyle");
+        Report low = new Report();
+        low.add(new IssueBuilder().setFileName("Other.java").setLineStart(1).setMessage("Message 1")
+                .setSeverity(Severity.WARNING_LOW).setOrigin("pmd").build());
+        List<Issue> keys = new ArrayList<>();
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(Arrays.asList(errors, low), 2,
+                issue -> {
+                    keys.add(issue);
+                    return issue.getMessage();
+                },
+                (issue, merged) -> null);
+
+        assertThat(selection.getTotalSize()).isEqualTo(4);
+        assertThat(selection.getSelectedSize()).isEqualTo(2);
+        assertThat(selection.getTruncatedSize()).isEqualTo(2);
+        assertThat(keys).isEmpty();
+    }
+
+    @Test
+    void shouldNotMergeDuplicatesWithoutKeyFunction() {
+        Report first = createReport(Severity.WARNING_NORMAL, 2, "checkstyle");
+        Report second = createReport(Severity.WARNING_NORMAL, 2, "pmd");
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(Arrays.asList(first, second), 100,
+                null, (issue, merged) -> null);
+
+        assertThat(selection.getSelectedSize()).isEqualTo(4);
+        assertThat(selection.getMergedSize()).isZero();
+    }
+
+    @Test
+    void shouldNotMergeIssuesWithoutKey() {
+        Report first = createReport(Severity.WARNING_NORMAL, 2, "checkstyle");
+        Report second = createReport(Severity.WARNING_NORMAL, 2, "pmd");
+
+        AnnotationSelection<ChecksAnnotation> selection = new AnnotationSelection<>(Arrays.asList(first, second), 100,
+                issue -> null, (issue, merged) -> null);
+
+        assertThat(selection.getSelectedSize()).isEqualTo(4);
+    }
+
+    private AnnotationSelection<ChecksAnnotation> createSelection(final int maxAnnotations,
+            final Report... reports) {
+        return new AnnotationSelection<>(Arrays.asList(reports), maxAnnotations, this::convert);
+    }
+
+    private ChecksAnnotation convert(final Issue issue) {
+        converted.add(issue);
+        return null;
+    }
+
+    private Report createReport(final Severity severity, final int size) {
+        return createReport(severity, size, "tool");
+    }
+
+    private Report createReport(final Severity severity, final int size, final String origin) {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder().setFileName("File.java").setSeverity(severity).setOrigin(origin);
+        for (int line = 1; line <= size; line++) {
+            report.add(builder.setLineStart(line).setMessage("Message " + line).build());
+        }
+        return report;
+    }
+}
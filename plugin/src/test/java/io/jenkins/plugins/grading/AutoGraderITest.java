@@ -33,6 +33,7 @@ import io.jenkins.plugins.coverage.adapter.CoverageAdapter;
 import io.jenkins.plugins.coverage.adapter.JacocoReportAdapter;
 import io.jenkins.plugins.coverage.source.DefaultSourceFileResolver;
 import io.jenkins.plugins.coverage.source.SourceFileResolver.SourceFileResolverLevel;
+import io.jenkins.plugins.grading.ScoreTrendCache.BuildScore;
 import io.jenkins.plugins.util.IntegrationTestWithJenkinsPerSuite;
 
 import static io.jenkins.plugins.grading.assertions.Assertions.*;
@@ -231,6 +232,30 @@ public class AutoGraderITest extends IntegrationTestWithJenkinsPerSuite {
         assertTestResults(pipeline);
     }
 
+    /**
+     * Verifies that a deleted build is removed from the trend of the job.
+     *
+     * @throws IOException
+     *         if the build could not be deleted
+     */
+    @Test
+    public void shouldRemoveDeletedBuildFromTrend() throws IOException {
+        FreeStyleProject project = createFreeStyleProjectWithWorkspaceFiles(TEST_REPORTS);
+        project.getPublishersList().add(new JUnitResultArchiver("*"));
+        project.getPublishersList().add(new AutoGrader(TEST_CONFIGURATION));
+
+        buildSuccessfully(project);
+        Run<?, ?> middle = buildSuccessfully(project);
+        buildSuccessfully(project);
+
+        AutoGradingJobAction action = new AutoGradingJobAction(project);
+        assertThat(action.getTrend()).extracting(BuildScore::getNumber).containsExactly(1, 2, 3);
+
+        middle.delete();
+
+        assertThat(action.getTrend()).extracting(BuildScore::getNumber).containsExactly(1, 3);
+    }
+
     private void assertTestResults(final Run<?, ?> baseline) {
         AggregatedScore score = getAggregatedScore(baseline);
 
@@ -0,0 +1,149 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.ResourceTest;
+
+import hudson.model.TaskListener;
+
+import io.jenkins.plugins.checks.api.ChecksAnnotation;
+import io.jenkins.plugins.checks.api.ChecksDetails;
+import io.jenkins.plugins.checks.api.ChecksDetails.ChecksDetailsBuilder;
+import io.jenkins.plugins.checks.api.ChecksPublisher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link AutoGradingChecksPublisher}.
+ *
+ * @author Ullrich Hafner
+ */
+class AutoGradingChecksPublisherTest extends ResourceTest {
+    private static final String BUILD = "job#1";
+    private static final String DETAILS_URL = "http://localhost/job/build/1/autograding";
+
+    @Test
+    void shouldRenderAllIssues() {
+        ChecksContent content = new AutoGradingChecksPublisher(100).render(TaskListener.NULL, readScore(),
+                createReports(), null, DETAILS_URL);
+
+        assertThat(content.getTitle()).isNotEmpty();
+        assertThat(content.getSummary()).isNotEmpty();
+        assertThat(content.getText()).isNotEmpty();
+        assertThat(getAnnotations(content)).hasSize(3);
+    }
+
+    @Test
+    void shouldRenderIssuesOfChangedFilesOnly() {
+        ChecksContent content = new AutoGradingChecksPublisher(100).render(TaskListener.NULL, readScore(),
+                createReports(), Collections.singleton("src/Changed.java"), DETAILS_URL);
+
+        assertThat(getAnnotations(content)).hasSize(2);
+    }
+
+    @Test
+    void shouldLimitNumberOfAnnotations() {
+        ChecksContent content = new AutoGradingChecksPublisher(1).render(TaskListener.NULL, readScore(),
+                createReports(), null, DETAILS_URL);
+
+        assertThat(getAnnotations(content)).hasSize(1);
+    }
+
+    @Test
+    void shouldAcceptPublicationWithoutFailureMessages() {
+        ChecksPublisher publisher = mock(ChecksPublisher.class);
+        ChecksDetails details = new ChecksDetailsBuilder().withName("Autograding").build();
+
+        new AutoGradingChecksPublisher().publishAndVerify(BUILD,
+                listener -> logOnPublish(publisher, listener, "GitHub checks have been published."),
+                checksPublisher -> checksPublisher.publish(details));
+
+        verify(publisher).publish(details);
+    }
+
+    @Test
+    void shouldDetectFailureThatIsOnlyLoggedByPublisher() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        AutoGradingChecksPublisher checks = new AutoGradingChecksPublisher(100, false,
+                new GradingMetricsRecorder(Collections.singletonList(metrics)));
+        ChecksPublisher publisher = mock(ChecksPublisher.class);
+        ChecksDetails details = new ChecksDetailsBuilder().withName("Autograding").build();
+
+        assertThatIllegalStateException().isThrownBy(() ->
+                checks.publishAndVerify(BUILD,
+                        listener -> logOnPublish(publisher, listener, "Failed Publishing GitHub checks: 502"),
+                        checksPublisher -> checksPublisher.publish(details)))
+                .withMessageContaining(BUILD)
+                .withMessageContaining("502");
+        assertThat(metrics.getCounters()).containsEntry(GradingMetrics.FAILED_CHECKS, 1L);
+    }
+
+    @Test
+    void shouldIgnoreBenignMessagesThatContainFailed() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        AutoGradingChecksPublisher checks = new AutoGradingChecksPublisher(100, false,
+                new GradingMetricsRecorder(Collections.singletonList(metrics)));
+        ChecksPublisher publisher = mock(ChecksPublisher.class);
+        ChecksDetails details = new ChecksDetailsBuilder().withName("Autograding").build();
+
+        checks.publishAndVerify(BUILD,
+                listener -> logOnPublish(publisher, listener,
+                        "Published checks: 2 tests failed, no exception has been thrown"),
+                checksPublisher -> checksPublisher.publish(details));
+
+        assertThat(metrics.getCounters()).doesNotContainKey(GradingMetrics.FAILED_CHECKS);
+        verify(publisher).publish(details);
+    }
+
+    @Test
+    void shouldCountExceptionOfPublisherAsFailure() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        AutoGradingChecksPublisher checks = new AutoGradingChecksPublisher(100, false,
+                new GradingMetricsRecorder(Collections.singletonList(metrics)));
+        ChecksPublisher publisher = mock(ChecksPublisher.class);
+        doThrow(new IllegalArgumentException("Bad credentials")).when(publisher).publish(any());
+
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                checks.publishAndVerify(BUILD, listener -> publisher,
+                        checksPublisher -> checksPublisher.publish(new ChecksDetailsBuilder().build())))
+                .withMessage("Bad credentials");
+        assertThat(metrics.getCounters()).containsEntry(GradingMetrics.FAILED_CHECKS, 1L);
+    }
+
+    private ChecksPublisher logOnPublish(final ChecksPublisher publisher, final TaskListener listener,
+            final String message) {
+        doAnswer(invocation -> {
+            listener.getLogger().println(message);
+            return null;
+        }).when(publisher).publish(any());
+        return publisher;
+    }
+
+    private List<ChecksAnnotation> getAnnotations(final ChecksContent content) {
+        return content.getAnnotations();
+    }
+
+    private AggregatedScore readScore() {
+        return new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml"));
+    }
+
+    private List<Report> createReports() {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder().setSeverity(Severity.WARNING_NORMAL).setOrigin("checkstyle");
+        report.add(builder.setFileName("/workspace/src/Changed.java").setLineStart(1).setMessage("<b>One</b>")
+                .build());
+        report.add(builder.setFileName("/workspace/src/Changed.java").setLineStart(2).setMessage("Two").build());
+        report.add(builder.setFileName("/workspace/src/Other.java").setLineStart(3).setMessage("Three").build());
+        return Arrays.asList(report);
+    }
+}
@@ -0,0 +1,59 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.ResourceTest;
+
+import hudson.model.Run;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link AutoGradingViewModel}.
+ *
+ * @author Ullrich Hafner
+ */
+class AutoGradingViewModelTest extends ResourceTest {
+    @Test
+    void shouldCreateModelOfAllCategories() throws IOException {
+        AggregatedScore score = readScore();
+        AutoGradingViewModel viewModel = new AutoGradingViewModel(mock(Run.class), score);
+
+        JsonNode model = new ObjectMapper().readTree(viewModel.getModel());
+
+        assertThat(model.get("total").get("achieved").asInt()).isEqualTo(score.getAchieved());
+        assertThat(model.get("total").get("ratio").asInt()).isEqualTo(score.getRatio());
+        assertThat(model.get("total").has("progress")).isTrue();
+
+        assertThat(model.get("analysis").get("achieved").asInt()).isEqualTo(79);
+        assertThat(model.get("analysis").get("scores")).hasSize(8);
+        assertThat(model.get("tests").get("achieved").asInt()).isEqualTo(60);
+        assertThat(model.get("tests").get("scores")).hasSize(1);
+        assertThat(model.get("coverage").get("achieved").asInt()).isEqualTo(78);
+        assertThat(model.get("coverage").get("scores")).hasSize(2);
+        assertThat(model.get("pit").get("achieved").asInt()).isEqualTo(73);
+        assertThat(model.get("pit").get("scores")).hasSize(1);
+        assertThat(model.get("pit").get("impacts").has("undetectedPercentage")).isTrue();
+    }
+
+    @Test
+    void shouldMemoizeModelOfSameScore() {
+        AggregatedScore score = readScore();
+
+        String first = new AutoGradingViewModel(mock(Run.class), score).getModel();
+        String second = new AutoGradingViewModel(mock(Run.class), score).getModel();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    private AggregatedScore readScore() {
+        return new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml"));
+    }
+}
@@ -0,0 +1,103 @@
+package io.jenkins.plugins.grading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+import hudson.model.Run;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link BatchRegrading}.
+ *
+ * @author Ullrich Hafner
+ */
+class BatchRegradingTest {
+    @Test
+    void shouldGradeAllBuilds() throws IOException, InterruptedException {
+        BuildRegrader regrader = mock(BuildRegrader.class);
+        List<Run<?, ?>> builds = createBuilds(5);
+        AggregatedScore score = mock(AggregatedScore.class);
+        when(score.getAchieved()).thenReturn(80);
+        when(score.getTotal()).thenReturn(100);
+        when(regrader.regrade(any())).thenReturn(score);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        BatchRegrading batch = new BatchRegrading(regrader, builds, 3, createStream(output));
+        batch.run();
+
+        assertThat(batch.getTotal()).isEqualTo(5);
+        assertThat(batch.getCompleted()).isEqualTo(5);
+        assertThat(batch.getFailed()).isZero();
+        assertThat(batch.getSkipped()).isZero();
+        for (Run<?, ?> build : builds) {
+            verify(regrader).regrade(build);
+        }
+        assertThat(toString(output)).contains("[5/5] ", "Graded job#1: 80 of 100 points",
+                "Graded job#5: 80 of 100 points");
+    }
+
+    @Test
+    void shouldCountFailedBuilds() throws IOException, InterruptedException {
+        BuildRegrader regrader = mock(BuildRegrader.class);
+        List<Run<?, ?>> builds = createBuilds(2);
+        when(regrader.regrade(builds.get(0))).thenThrow(new IOException("Disk full"));
+        when(regrader.regrade(builds.get(1))).thenReturn(mock(AggregatedScore.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        BatchRegrading batch = new BatchRegrading(regrader, builds, 1, createStream(output));
+        batch.run();
+
+        assertThat(batch.getCompleted()).isEqualTo(1);
+        assertThat(batch.getFailed()).isEqualTo(1);
+        assertThat(toString(output)).contains("[1/2] Failed to grade job#1: java.io.IOException: Disk full",
+                "[2/2] Graded job#2");
+    }
+
+    @Test
+    void shouldSkipRemainingBuildsWhenCancelled() throws IOException, InterruptedException {
+        BuildRegrader regrader = mock(BuildRegrader.class);
+        List<Run<?, ?>> builds = createBuilds(4);
+        BatchRegrading batch = new BatchRegrading(regrader, builds, 1,
+                createStream(new ByteArrayOutputStream()));
+        when(regrader.regrade(any())).thenAnswer(invocation -> {
+            batch.cancel();
+            return mock(AggregatedScore.class);
+        });
+
+        batch.run();
+
+        assertThat(batch.isCancelled()).isTrue();
+        assertThat(batch.getCompleted()).isEqualTo(1);
+        assertThat(batch.getSkipped()).isEqualTo(3);
+        verify(regrader).regrade(builds.get(0));
+        verifyNoMoreInteractions(regrader);
+    }
+
+    private List<Run<?, ?>> createBuilds(final int count) {
+        List<Run<?, ?>> builds = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Run<?, ?> build = mock(Run.class);
+            when(build.getExternalizableId()).thenReturn("job#" + i);
+            builds.add(build);
+        }
+        return builds;
+    }
+
+    private PrintStream createStream(final ByteArrayOutputStream output) throws IOException {
+        return new PrintStream(output, true, StandardCharsets.UTF_8.name());
+    }
+
+    private String toString(final ByteArrayOutputStream output) {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package io.jenkins.plugins.grading;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.jenkins.plugins.checks.api.ChecksDetails;
+import io.jenkins.plugins.checks.api.ChecksDetails.ChecksDetailsBuilder;
+import io.jenkins.plugins.checks.api.ChecksPublisher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link ChecksPublishingQueue}.
+ *
+ * @author Ullrich Hafner
+ */
+class ChecksPublishingQueueTest {
+    private static final long TIMEOUT = 5000;
+    private static final String BUILD = "job#1";
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final ChecksPublisher publisher = mock(ChecksPublisher.class);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldPublishAsynchronously() {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(executor, 10, 1, 1);
+        ChecksDetails details = createDetails("first");
+
+        assertThat(queue.submit(BUILD, () -> publisher.publish(details))).isTrue();
+
+        verify(publisher, timeout(TIMEOUT)).publish(details);
+    }
+
+    @Test
+    void shouldRetryFailedPublications() {
+        doThrow(new IllegalStateException("Checks API is not available")).doNothing()
+                .when(publisher).publish(any());
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(executor, 10, 3, 10);
+        ChecksDetails details = createDetails("retry");
+
+        queue.submit(BUILD, () -> publisher.publish(details));
+
+        verify(publisher, timeout(TIMEOUT).times(2)).publish(details);
+    }
+
+    @Test
+    void shouldStopRetryingAfterMaximumNumberOfAttempts() {
+        doThrow(new IllegalStateException("Checks API is not available")).when(publisher).publish(any());
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(scheduler, 10, 2, 10);
+
+        queue.submit(BUILD, () -> publisher.publish(createDetails("broken")));
+
+        runScheduledTask(scheduler, 0);
+        assertThat(queue.getPendingSize()).isEqualTo(1);
+
+        runScheduledTask(scheduler, 10);
+        verify(publisher, times(2)).publish(any());
+        assertThat(queue.getPendingSize()).isZero();
+        verifyNoMoreInteractions(scheduler);
+    }
+
+    @Test
+    void shouldCoalesceSupersededPublicationsOfSameBuild() throws InterruptedException {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(executor, 10, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChecksDetails first = createDetails("first");
+        ChecksDetails second = createDetails("second");
+        ChecksDetails third = createDetails("third");
+
+        queue.submit(BUILD, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            publisher.publish(first);
+        });
+        assertThat(started.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+
+        queue.submit(BUILD, () -> publisher.publish(second));
+        queue.submit(BUILD, () -> publisher.publish(third));
+        assertThat(queue.getPendingSize()).isEqualTo(1);
+
+        release.countDown();
+
+        verify(publisher, timeout(TIMEOUT)).publish(third);
+        verify(publisher).publish(first);
+        verify(publisher, never()).publish(second);
+    }
+
+    @Test
+    void shouldRejectPublicationsIfQueueIsFull() throws InterruptedException {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(executor, 1, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue.submit("job#1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(queue.submit("job#2", () -> publisher.publish(createDetails("2")))).isTrue();
+        assertThat(queue.submit("job#3", () -> publisher.publish(createDetails("3")))).isFalse();
+
+        release.countDown();
+
+        verify(publisher, timeout(TIMEOUT)).publish(any());
+    }
+
+    /**
+     * Runs the next task that has been scheduled with the specified delay on the calling thread.
+     */
+    private void runScheduledTask(final ScheduledExecutorService scheduler, final long delay) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(task.capture(), eq(delay), eq(TimeUnit.MILLISECONDS));
+        clearInvocations(scheduler);
+
+        task.getValue().run();
+    }
+
+    private ChecksDetails createDetails(final String name) {
+        return new ChecksDetailsBuilder().withName(name).build();
+    }
+
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ChecksTextBudget}.
+ *
+ * @author Ullrich Hafner
+ */
+class ChecksTextBudgetTest {
+    private static final String URL = "https://ci.example.com/job/a/1/autograding";
+    private static final String TESTS = "# Tests\n" + "| a | b |\n";
+    private static final String COVERAGE = "# Coverage\n" + "| c | d |\n";
+    private static final String ANALYSIS = "# Analysis\n" + String.join("", Collections.nCopies(50, "| e | f |\n"));
+    private static final String TEXT = TESTS + COVERAGE + ANALYSIS;
+
+    @Test
+    void shouldKeepTextThatFitsIntoBudget() {
+        assertThat(new ChecksTextBudget(TEXT.length()).fit(TEXT, URL)).isSameAs(TEXT);
+        assertThat(new ChecksTextBudget().fit(TEXT, URL)).isSameAs(TEXT);
+    }
+
+    @Test
+    void shouldTruncateAtSectionBoundary() {
+        int maxLength = TESTS.length() + COVERAGE.length() + 200;
+
+        String truncated = new ChecksTextBudget(maxLength).fit(TEXT, URL);
+
+        assertThat(truncated).hasSizeLessThanOrEqualTo(maxLength)
+                .startsWith(TESTS + COVERAGE)
+                .doesNotContain("# Analysis")
+                .contains("[complete results](" + URL + ")");
+    }
+
+    @Test
+    void shouldCutLargeFirstSectionAtLineBreak() {
+        StringBuilder text = new StringBuilder("# Large\n");
+        for (int line = 0; line < 100; line++) {
+            text.append("| row ").append(line).append(" |\n");
+        }
+
+        String truncated = new ChecksTextBudget(300).fit(text.toString(), URL);
+
+        assertThat(truncated).hasSizeLessThanOrEqualTo(300).startsWith("# Large\n| row 0 |\n").contains(URL);
+        assertThat(truncated.substring(0, truncated.indexOf("\n\n---"))).endsWith(" |\n");
+    }
+
+    @Test
+    void shouldReturnTruncatedNoteIfBudgetIsTooSmall() {
+        assertThat(new ChecksTextBudget(10).fit(TEXT, URL)).hasSize(10);
+    }
+}
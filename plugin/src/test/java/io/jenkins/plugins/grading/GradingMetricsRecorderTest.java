@@ -0,0 +1,71 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.jenkins.plugins.grading.GradingMetrics.Phase;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link GradingMetricsRecorder}.
+ *
+ * @author Ullrich Hafner
+ */
+class GradingMetricsRecorderTest {
+    @Test
+    void shouldRecordDurationsOfPhases() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        GradingMetricsRecorder recorder = new GradingMetricsRecorder(Arrays.asList(metrics));
+
+        assertThat(recorder.time(Phase.CONFIGURATION, () -> "result")).isEqualTo("result");
+        recorder.time(Phase.PERSISTENCE, () -> { });
+
+        Function<Integer, Integer> timed = recorder.timed(Phase.TESTS, value -> value + 1);
+        assertThat(timed.apply(1)).isEqualTo(2);
+        assertThat(timed.apply(2)).isEqualTo(3);
+
+        assertThat(metrics.getPhase(Phase.CONFIGURATION).getCount()).isEqualTo(1);
+        assertThat(metrics.getPhase(Phase.PERSISTENCE).getCount()).isEqualTo(1);
+        assertThat(metrics.getPhase(Phase.TESTS).getCount()).isEqualTo(2);
+        assertThat(metrics.getPhase(Phase.ANALYSIS).getCount()).isZero();
+    }
+
+    @Test
+    void shouldRecordDurationOfFailedPhase() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        GradingMetricsRecorder recorder = new GradingMetricsRecorder(Arrays.asList(metrics));
+
+        assertThatIllegalStateException().isThrownBy(() -> recorder.time(Phase.COVERAGE, () -> {
+            throw new IllegalStateException("Broken coverage");
+        }));
+        assertThat(metrics.getPhase(Phase.COVERAGE).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreFailingExtensions() {
+        GradingMetrics broken = mock(GradingMetrics.class);
+        doThrow(new IllegalArgumentException("Broken")).when(broken).recordDuration(any(), anyLong());
+        doThrow(new IllegalArgumentException("Broken")).when(broken).increment(anyString());
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+        GradingMetricsRecorder recorder = new GradingMetricsRecorder(Arrays.asList(broken, metrics));
+
+        assertThat(recorder.time(Phase.PIT, () -> 1)).isEqualTo(1);
+        recorder.increment(GradingMetrics.BUILDS);
+
+        assertThat(metrics.getPhase(Phase.PIT).getCount()).isEqualTo(1);
+        assertThat(metrics.getCounter(GradingMetrics.BUILDS)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRecordAnythingWithoutExtensions() {
+        GradingMetricsRecorder recorder = GradingMetricsRecorder.none();
+
+        assertThat(recorder.time(Phase.PIT, () -> 1)).isEqualTo(1);
+        recorder.increment(GradingMetrics.BUILDS);
+    }
+}
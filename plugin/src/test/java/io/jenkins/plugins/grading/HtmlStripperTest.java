@@ -0,0 +1,114 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link HtmlStripper}.
+ *
+ * @author Ullrich Hafner
+ */
+class HtmlStripperTest extends ResourceTest {
+    @Test
+    void shouldProduceSameTextAsJsoupForAllMessagesOfCorpus() throws IOException {
+        List<String> messages = Files.readAllLines(getResourceAsFile("warning-messages.txt"), StandardCharsets.UTF_8);
+
+        HtmlToTextConverter converter = new HtmlToTextConverter();
+        assertThat(messages).isNotEmpty();
+        for (String message : messages) {
+            assertThat(strip(message)).as(message).doesNotHaveDuplicates();
+            assertThat(toLines(converter.toText(message))).as(message)
+                    .containsExactlyInAnyOrderElementsOf(toLines(parseWithJsoup(message)));
+        }
+    }
+
+    @Test
+    void shouldPreserveOrderOfTextFragments() {
+        assertThat(strip("Mixed <i>italic</i> and <a href=\"https://b.org\"><b>bold</b> link</a> text"))
+                .containsExactly("Mixed", "italic", "and", "bold link:https://b.org", "text");
+        assertThat(strip("<p>First</p><br><p>Second</p><p>First</p>"))
+                .containsExactly("First", "Second");
+    }
+
+    @Test
+    void shouldWriteWhitespaceBetweenElementsAsEmptyLine() {
+        assertThat(strip("<p>First</p> <p>Second</p>\n<p>Third</p>")).containsExactly("First", "", "Second", "Third");
+        assertThat(strip(" <!-- comment -->\n<p>First</p>")).containsExactly("First");
+        assertThat(strip("<a href=\"u\">Link <!-- comment --> text</a>")).containsExactly("Link text:u");
+        assertThat(strip("<pre>\n</pre>")).isEmpty();
+    }
+
+    @Test
+    void shouldHandleTextThatLooksLikeMarkup() {
+        assertThat(strip("a < b && c <= d")).containsExactly("a < b && c <= d");
+        assertThat(strip("&unknown; &#xZZ; &")).containsExactly("&unknown; &#xZZ; &");
+        assertThat(strip("<script>alert('x')</script>Text<style>p {}</style>")).containsExactly("Text");
+        assertThat(strip("<a href=unquoted>Open anchor")).containsExactly("Open anchor:unquoted");
+        assertThat(strip("")).isEmpty();
+    }
+
+    @Test
+    void shouldAppendToExistingContent() {
+        StringBuilder output = new StringBuilder("Existing\n");
+
+        HtmlStripper.appendText("<b>Existing</b>", output);
+
+        assertThat(output.toString()).isEqualTo("Existing\nExisting\n");
+    }
+
+    private List<String> strip(final String html) {
+        StringBuilder output = new StringBuilder();
+        HtmlStripper.appendText(html, output);
+
+        if (output.length() == 0) {
+            return Arrays.asList();
+        }
+        assertThat(output.charAt(output.length() - 1)).isEqualTo('\n');
+        return Arrays.asList(output.substring(0, output.length() - 1).split("\n", -1));
+    }
+
+    private List<String> toLines(final String text) {
+        if (text.isEmpty()) {
+            return Arrays.asList();
+        }
+        return Arrays.asList(text.split("\n", -1));
+    }
+
+    /**
+     * Reference implementation that has been used before the {@link HtmlStripper} has been introduced (unmodified).
+     */
+    private String parseWithJsoup(final String html) {
+        Set<String> contents = new HashSet<>();
+        parseWithJsoup(Jsoup.parse(html), contents);
+        return String.join("\n", contents);
+    }
+
+    private void parseWithJsoup(final Element html, final Set<String> contents) {
+        for (TextNode node : html.textNodes()) {
+            contents.add(node.text().trim());
+        }
+
+        for (Element child : html.children()) {
+            if (child.hasAttr("href")) {
+                contents.add(child.text().trim() + ":" + child.attr("href").trim());
+            }
+            else {
+                parseWithJsoup(child, contents);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.jenkins.plugins.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link HtmlToTextConverter}.
+ *
+ * @author Ullrich Hafner
+ */
+class HtmlToTextConverterTest {
+    @Test
+    void shouldNotParseOrCachePlainText() {
+        HtmlToTextConverter converter = new HtmlToTextConverter();
+
+        assertThat(converter.toText("  Line is longer than   100 characters\n")).isEqualTo(
+                "Line is longer than 100 characters");
+        assertThat(converter.toText("")).isEmpty();
+        assertThat(converter.getCacheSize()).isZero();
+    }
+
+    @Test
+    void shouldConvertMarkupAndCacheResult() {
+        HtmlToTextConverter converter = new HtmlToTextConverter();
+
+        String message = "See <a href=\"https://pmd.github.io\">PMD</a>";
+        assertThat(converter.toText(message)).isEqualTo("See\nPMD:https://pmd.github.io");
+        assertThat(converter.getCacheSize()).isEqualTo(1);
+
+        assertThat(converter.toText(message)).isEqualTo("See\nPMD:https://pmd.github.io");
+        assertThat(converter.getCacheSize()).isEqualTo(1);
+
+        assertThat(converter.toText("a &lt; b")).isEqualTo("a < b");
+        assertThat(converter.getCacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedMessages() {
+        HtmlToTextConverter converter = new HtmlToTextConverter(2);
+
+        converter.toText("<b>1</b>");
+        converter.toText("<b>2</b>");
+        converter.toText("<b>1</b>");
+        converter.toText("<b>3</b>");
+
+        assertThat(converter.getCacheSize()).isEqualTo(2);
+        assertThat(converter.toText("<b>1</b>")).isEqualTo("1");
+    }
+}
@@ -0,0 +1,55 @@
+package io.jenkins.plugins.grading;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.jenkins.plugins.grading.GradingMetrics.Phase;
+import io.jenkins.plugins.grading.InMemoryGradingMetrics.PhaseStatistics;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link InMemoryGradingMetrics}.
+ *
+ * @author Ullrich Hafner
+ */
+class InMemoryGradingMetricsTest {
+    @Test
+    void shouldAggregateDurations() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+
+        assertThat(metrics.getPhases()).hasSize(Phase.values().length);
+        assertThat(metrics.getPhase(Phase.COVERAGE).getCount()).isZero();
+        assertThat(metrics.getPhase(Phase.COVERAGE).getAverageMillis()).isZero();
+
+        metrics.recordDuration(Phase.COVERAGE, TimeUnit.MILLISECONDS.toNanos(30));
+        metrics.recordDuration(Phase.COVERAGE, TimeUnit.MILLISECONDS.toNanos(10));
+
+        PhaseStatistics coverage = metrics.getPhase(Phase.COVERAGE);
+        assertThat(coverage.getPhase()).isEqualTo(Phase.COVERAGE);
+        assertThat(coverage.getCount()).isEqualTo(2);
+        assertThat(coverage.getTotalMillis()).isEqualTo(40);
+        assertThat(coverage.getAverageMillis()).isEqualTo(20);
+        assertThat(coverage.getMaxMillis()).isEqualTo(30);
+        assertThat(coverage.getLastMillis()).isEqualTo(10);
+
+        assertThat(metrics.getPhase(Phase.PIT).getCount()).isZero();
+    }
+
+    @Test
+    void shouldIncrementCounters() {
+        InMemoryGradingMetrics metrics = new InMemoryGradingMetrics();
+
+        assertThat(metrics.getCounters()).isEmpty();
+        assertThat(metrics.getCounter(GradingMetrics.BUILDS)).isZero();
+
+        metrics.increment(GradingMetrics.BUILDS);
+        metrics.increment(GradingMetrics.BUILDS);
+        metrics.increment(GradingMetrics.REUSED_SCORES);
+
+        assertThat(metrics.getCounter(GradingMetrics.BUILDS)).isEqualTo(2);
+        assertThat(metrics.getCounters()).containsExactly(
+                entry(GradingMetrics.BUILDS, 2L), entry(GradingMetrics.REUSED_SCORES, 1L));
+    }
+}
@@ -0,0 +1,121 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitConfiguration.PitConfigurationBuilder;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.PitScore.PitScoreBuilder;
+import edu.hm.hafner.util.FilteredLog;
+
+import hudson.model.Run;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link IncrementalScoring}.
+ *
+ * @author Ullrich Hafner
+ */
+class IncrementalScoringTest {
+    private static final String CONFIGURATION = "{}";
+    private static final String FINGERPRINT = "fingerprint";
+
+    private final PitConfiguration configuration = new PitConfigurationBuilder().build();
+    private final List<PitScore> previousScores = Collections.singletonList(createScore(10, 1));
+    private final List<PitScore> currentScores = Collections.singletonList(createScore(10, 5));
+
+    @Test
+    void shouldReuseScoresIfFingerprintDidNotChange() {
+        IncrementalScoring scoring = new IncrementalScoring(createFingerprint(Optional.of(FINGERPRINT)),
+                createPreviousAction(FINGERPRINT), CONFIGURATION, new FilteredLog("Errors"));
+
+        assertThat(scoring.getFingerprints()).containsEntry(IncrementalScoring.PIT, FINGERPRINT)
+                .containsEntry(IncrementalScoring.COVERAGE, FINGERPRINT);
+        assertThat(scoring.isReused(IncrementalScoring.PIT)).isTrue();
+        assertThat(scoring.pit(this::failIfInvoked).apply(configuration)).isEqualTo(previousScores);
+    }
+
+    @Test
+    void shouldComputeScoresIfFingerprintChanged() {
+        IncrementalScoring scoring = new IncrementalScoring(createFingerprint(Optional.of("changed")),
+                createPreviousAction(FINGERPRINT), CONFIGURATION, new FilteredLog("Errors"));
+
+        assertThat(scoring.isReused(IncrementalScoring.PIT)).isFalse();
+        assertThat(scoring.pit(createSupplier()).apply(configuration)).isEqualTo(currentScores);
+    }
+
+    @Test
+    void shouldComputeScoresIfThereIsNoPreviousBuildOrNoResult() {
+        IncrementalScoring first = new IncrementalScoring(createFingerprint(Optional.of(FINGERPRINT)),
+                null, CONFIGURATION, new FilteredLog("Errors"));
+
+        assertThat(first.getFingerprints()).containsEntry(IncrementalScoring.PIT, FINGERPRINT);
+        assertThat(first.pit(createSupplier()).apply(configuration)).isEqualTo(currentScores);
+
+        IncrementalScoring withoutResults = new IncrementalScoring(createFingerprint(Optional.empty()),
+                createPreviousAction(FINGERPRINT), CONFIGURATION, new FilteredLog("Errors"));
+
+        assertThat(withoutResults.getFingerprints()).isEmpty();
+        assertThat(withoutResults.pit(createSupplier()).apply(configuration)).isEqualTo(currentScores);
+    }
+
+    @Test
+    void shouldVisitLimitedNumberOfPreviousBuilds() {
+        AutoGradingBuildAction action = createPreviousAction(FINGERPRINT);
+        Run<?, ?> graded = createBuild(null, action);
+        Run<?, ?> failed = createBuild(graded, null);
+        Run<?, ?> current = createBuild(failed, null);
+
+        assertThat(IncrementalScoring.findPreviousAction(current, 2)).isSameAs(action);
+        assertThat(IncrementalScoring.findPreviousAction(current, 1)).isNull();
+        verify(graded, never()).getPreviousBuild();
+    }
+
+    private Run<?, ?> createBuild(final Run<?, ?> previous, final AutoGradingBuildAction action) {
+        Run<?, ?> build = mock(Run.class);
+        doReturn(previous).when(build).getPreviousBuild();
+        when(build.getAction(AutoGradingBuildAction.class)).thenReturn(action);
+        return build;
+    }
+
+    private InputFingerprint createFingerprint(final Optional<String> value) {
+        InputFingerprint fingerprint = mock(InputFingerprint.class);
+        when(fingerprint.compute(eq(CONFIGURATION), any())).thenReturn(value);
+        return fingerprint;
+    }
+
+    private AutoGradingBuildAction createPreviousAction(final String fingerprint) {
+        AggregatedScore score = mock(AggregatedScore.class);
+        when(score.getPitScores()).thenReturn(previousScores);
+
+        AutoGradingBuildAction action = mock(AutoGradingBuildAction.class);
+        when(action.getResult()).thenReturn(score);
+        when(action.getFingerprints()).thenReturn(Collections.singletonMap(IncrementalScoring.PIT, fingerprint));
+        return action;
+    }
+
+    private Function<PitConfiguration, List<PitScore>> createSupplier() {
+        return pitConfiguration -> currentScores;
+    }
+
+    private List<PitScore> failIfInvoked(final PitConfiguration pitConfiguration) {
+        throw new AssertionError("Supplier should not be invoked");
+    }
+
+    private PitScore createScore(final int total, final int undetected) {
+        return new PitScoreBuilder().withConfiguration(configuration)
+                .withDisplayName("pit")
+                .withTotalMutations(total)
+                .withUndetectedMutations(undetected)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link InputFingerprint}.
+ *
+ * @author Ullrich Hafner
+ */
+class InputFingerprintTest {
+    private static final String CONFIGURATION = "{}";
+    private static final String PREFIX = "mutation-report";
+
+    @Test
+    void shouldReturnEmptyFingerprintIfThereAreNoResults() throws IOException {
+        Path folder = Files.createTempDirectory("build");
+        write(folder.resolve("build.xml"), "<build/>");
+
+        assertThat(new InputFingerprint(folder).compute(CONFIGURATION, PREFIX)).isEmpty();
+    }
+
+    @Test
+    void shouldCreateSameFingerprintForSameContent() throws IOException {
+        Path first = createBuild("mutations");
+        Path second = createBuild("mutations");
+        write(second.resolve("log"), "ignored");
+
+        assertThat(new InputFingerprint(first).compute(CONFIGURATION, PREFIX))
+                .isPresent()
+                .isEqualTo(new InputFingerprint(second).compute(CONFIGURATION, PREFIX));
+    }
+
+    @Test
+    void shouldCreateDifferentFingerprintsForDifferentContentOrConfiguration() throws IOException {
+        Path first = createBuild("mutations");
+        Path second = createBuild("other mutations");
+
+        InputFingerprint fingerprint = new InputFingerprint(first);
+        assertThat(fingerprint.compute(CONFIGURATION, PREFIX))
+                .isNotEqualTo(new InputFingerprint(second).compute(CONFIGURATION, PREFIX))
+                .isNotEqualTo(fingerprint.compute("{\"pit\": {}}", PREFIX));
+    }
+
+    private Path createBuild(final String content) throws IOException {
+        Path folder = Files.createTempDirectory("build");
+        Path reports = Files.createDirectory(folder.resolve(PREFIX));
+        write(reports.resolve("mutations.xml"), content);
+        return folder;
+    }
+
+    private void write(final Path file, final String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
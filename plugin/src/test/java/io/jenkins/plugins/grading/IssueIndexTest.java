@@ -0,0 +1,59 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link IssueIndex}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueIndexTest {
+    private static final String WORKSPACE = "/var/jenkins/workspace/job/";
+
+    @Test
+    void shouldSelectIssuesOfChangedFilesInOriginalOrder() {
+        Report first = createReport("src/main/java/A.java", "src/main/java/B.java");
+        Report second = createReport("src/main/java/B.java", "src/test/java/A.java", "src/main/java/A.java");
+        IssueIndex index = new IssueIndex(Arrays.asList(first, second));
+
+        assertThat(index.size()).isEqualTo(5);
+
+        Report selected = index.select(Collections.singleton("src/main/java/A.java"));
+        assertThat(selected).hasSize(2);
+        assertThat(selected.get(0)).isSameAs(first.get(0));
+        assertThat(selected.get(1)).isSameAs(second.get(2));
+
+        assertThat(index.select(Arrays.asList("src/main/java/B.java", "src/main/java/A.java")).stream()
+                .map(Issue::getFileName)).containsExactly(
+                WORKSPACE + "src/main/java/A.java", WORKSPACE + "src/main/java/B.java",
+                WORKSPACE + "src/main/java/B.java", WORKSPACE + "src/main/java/A.java");
+    }
+
+    @Test
+    void shouldMatchOnlyCompletePathSegments() {
+        IssueIndex index = new IssueIndex(Collections.singletonList(createReport("src/main/java/MyA.java")));
+
+        assertThat(index.select(Collections.singleton("A.java"))).isEmpty();
+        assertThat(index.select(Collections.singleton("java/MyA.java"))).hasSize(1);
+        assertThat(index.select(Collections.singleton("./src\\main\\java/MyA.java"))).hasSize(1);
+        assertThat(index.select(Collections.emptyList())).isEmpty();
+    }
+
+    private Report createReport(final String... files) {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (String file : files) {
+            report.add(builder.setFileName(WORKSPACE + file).setLineStart(report.size() + 1).build());
+        }
+        return report;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.grading.AnalysisConfiguration;
 import edu.hm.hafner.grading.AnalysisConfiguration.AnalysisConfigurationBuilder;
 import edu.hm.hafner.grading.AnalysisScore;
@@ -57,5 +58,33 @@ class JenkinsAnalysisSupplierTest {
                 .withTotalNormalSeveritySize(3)
                 .withTotalLowSeveritySize(4)
                 .build());
+        verify(action, times(1)).getResult();
+        verify(result, never()).getIssues();
+    }
+
+    @Test
+    void shouldLoadReportsOnlyOnDemand() {
+        ResultAction action = mock(ResultAction.class);
+        AnalysisResult result = mock(AnalysisResult.class);
+        when(action.getResult()).thenReturn(result);
+        when(action.getLabelProvider()).thenReturn(new StaticAnalysisLabelProvider(DISPLAY_NAME, DISPLAY_NAME));
+        Report report = new Report();
+        when(result.getIssues()).thenReturn(report);
+
+        Run<?, ?> run = mock(Run.class);
+        when(run.getActions(any())).thenReturn(Collections.singletonList(action));
+
+        JenkinsAnalysisSupplier analysisSupplier = new JenkinsAnalysisSupplier(run);
+        analysisSupplier.createScores(new AnalysisConfigurationBuilder().build());
+
+        List<Report> reports = analysisSupplier.getReports();
+        assertThat(reports).hasSize(1);
+        verify(result, never()).getIssues();
+
+        assertThat(reports.get(0)).isSameAs(report);
+        assertThat(reports.get(0)).isSameAs(report);
+        verify(result, times(1)).getIssues();
+        verify(action, times(1)).getResult();
+        verify(run, times(1)).getActions(any());
     }
 }
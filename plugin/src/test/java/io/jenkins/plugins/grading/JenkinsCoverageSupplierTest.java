@@ -1,6 +1,10 @@
 package io.jenkins.plugins.grading;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -8,6 +12,7 @@ import edu.hm.hafner.grading.CoverageConfiguration;
 import edu.hm.hafner.grading.CoverageConfiguration.CoverageConfigurationBuilder;
 import edu.hm.hafner.grading.CoverageScore;
 import edu.hm.hafner.grading.CoverageScore.CoverageScoreBuilder;
+import edu.hm.hafner.util.FilteredLog;
 
 import hudson.model.Run;
 
@@ -17,7 +22,6 @@ import io.jenkins.plugins.coverage.targets.CoverageResult;
 import io.jenkins.plugins.coverage.targets.Ratio;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,15 +34,8 @@ class JenkinsCoverageSupplierTest {
 
     @Test
     void shouldLogScoreFromRecordedTestResults() {
-        CoverageAction action = mock(CoverageAction.class);
-        CoverageResult result = mock(CoverageResult.class);
-        when(result.getCoverage(CoverageElement.LINE)).thenReturn(Ratio.create(5, 10));
-        when(result.getCoverage(CoverageElement.CONDITIONAL)).thenReturn(Ratio.create(5, 50));
-        when(action.getResult()).thenReturn(result);
-        when(action.getDisplayName()).thenReturn(DISPLAY_NAME);
-
-        Run<?, ?> run = mock(Run.class);
-        when(run.getAction(any())).thenReturn(action);
+        CoverageAction action = createAction(Ratio.create(5, 10), Ratio.create(5, 50), Ratio.create(3, 4));
+        Run<?, ?> run = createRun(action);
 
         JenkinsCoverageSupplier coverageSupplier = new JenkinsCoverageSupplier(run);
         CoverageConfiguration configuration = new CoverageConfigurationBuilder().build();
@@ -46,7 +43,7 @@ class JenkinsCoverageSupplierTest {
         List<CoverageScore> scores = coverageSupplier.createScores(configuration);
 
         CoverageScoreBuilder builder = new CoverageScoreBuilder().withConfiguration(configuration);
-        assertThat(scores).hasSize(2).contains(
+        assertThat(scores).hasSize(2).containsExactly(
                 builder.withId("line").withDisplayName("Line Coverage")
                         .withCoveredPercentage(50)
                         .build(),
@@ -54,6 +51,99 @@ class JenkinsCoverageSupplierTest {
                         .withCoveredPercentage(10)
                         .build()
         );
+        verify(action.getResult()).getResults();
+        verify(action.getResult(), never()).getCoverage(any());
+    }
+
+    @Test
+    void shouldCreateScoresForSelectedMetricsOfAllActions() {
+        CoverageAction first = createAction(Ratio.create(5, 10), Ratio.create(5, 50), Ratio.create(3, 4));
+        CoverageAction second = createAction(Ratio.create(1, 10), Ratio.create(1, 50), Ratio.create(1, 4));
+        Run<?, ?> run = createRun(first, second);
+
+        FilteredLog log = new FilteredLog("Errors");
+        JenkinsCoverageSupplier coverageSupplier = new JenkinsCoverageSupplier(run, "method, Line,, Unknown", log);
+        CoverageConfiguration configuration = new CoverageConfigurationBuilder().build();
+
+        List<CoverageScore> scores = coverageSupplier.createScores(configuration);
+
+        CoverageScoreBuilder builder = new CoverageScoreBuilder().withConfiguration(configuration);
+        assertThat(scores).containsExactly(
+                builder.withId("method").withDisplayName("Method Coverage")
+                        .withCoveredPercentage(75)
+                        .build(),
+                builder.withId("line").withDisplayName("Line Coverage")
+                        .withCoveredPercentage(50)
+                        .build(),
+                builder.withId("method-2").withDisplayName("Method Coverage (2)")
+                        .withCoveredPercentage(25)
+                        .build(),
+                builder.withId("line-2").withDisplayName("Line Coverage (2)")
+                        .withCoveredPercentage(10)
+                        .build()
+        );
+        assertThat(log.getErrorMessages())
+                .contains("Skipping coverage metric 'Unknown' since it is not part of the coverage results");
+    }
 
+    @Test
+    void shouldLogEachUnknownMetricOnce() {
+        Run<?, ?> run = createRun(createAction(Ratio.create(5, 10), Ratio.create(5, 50), Ratio.create(3, 4)),
+                createAction(Ratio.create(1, 10), Ratio.create(1, 50), Ratio.create(1, 4)));
+        FilteredLog log = new FilteredLog("Errors");
+
+        List<CoverageScore> scores = new JenkinsCoverageSupplier(run, "Instruction, Lines, line", log)
+                .createScores(new CoverageConfigurationBuilder().build());
+
+        assertThat(scores).extracting(CoverageScore::getId).containsExactly("line", "line-2");
+        assertThat(log.getErrorMessages()).containsSubsequence(
+                "Skipping coverage metric 'Instruction' since it is not part of the coverage results",
+                "Skipping coverage metric 'Lines' since it is not part of the coverage results")
+                .filteredOn(message -> message.contains("Skipping coverage metric")).hasSize(2);
+    }
+
+    @Test
+    void shouldReportUnknownMetrics() {
+        List<String> known = Arrays.asList("Line", "Conditional", "Method");
+
+        assertThat(JenkinsCoverageSupplier.getUnknownMetrics("method, LINE", known)).isEmpty();
+        assertThat(JenkinsCoverageSupplier.getUnknownMetrics("", known)).isEmpty();
+        assertThat(JenkinsCoverageSupplier.getUnknownMetrics("Line, Branch,, Instructions", known))
+                .containsExactly("Branch", "Instructions");
+    }
+
+    @Test
+    void shouldCreateNoScoresWithoutActions() {
+        Run<?, ?> run = createRun();
+
+        assertThat(new JenkinsCoverageSupplier(run).createScores(new CoverageConfigurationBuilder().build()))
+                .isEmpty();
+    }
+
+    private CoverageAction createAction(final Ratio line, final Ratio conditional, final Ratio method) {
+        Map<CoverageElement, Ratio> results = new LinkedHashMap<>();
+        results.put(CoverageElement.LINE, line);
+        results.put(CoverageElement.CONDITIONAL, conditional);
+        results.put(createElement("Method"), method);
+
+        CoverageResult result = mock(CoverageResult.class);
+        when(result.getResults()).thenReturn(Collections.unmodifiableMap(results));
+
+        CoverageAction action = mock(CoverageAction.class);
+        when(action.getResult()).thenReturn(result);
+        when(action.getDisplayName()).thenReturn(DISPLAY_NAME);
+        return action;
+    }
+
+    private CoverageElement createElement(final String name) {
+        CoverageElement element = mock(CoverageElement.class);
+        when(element.getName()).thenReturn(name);
+        return element;
+    }
+
+    private Run<?, ?> createRun(final CoverageAction... actions) {
+        Run<?, ?> run = mock(Run.class);
+        when(run.getActions(CoverageAction.class)).thenReturn(Arrays.asList(actions));
+        return run;
     }
 }
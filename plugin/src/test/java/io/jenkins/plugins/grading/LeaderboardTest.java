@@ -0,0 +1,201 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+import io.jenkins.plugins.grading.Leaderboard.Entry;
+import io.jenkins.plugins.grading.ScoreIndex.Record;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link Leaderboard}.
+ *
+ * @author Ullrich Hafner
+ */
+class LeaderboardTest {
+    @Test
+    void shouldSortEntriesByTotalScore() {
+        Leaderboard leaderboard = new Leaderboard(Collections::emptyList);
+        Job<?, ?> alice = createJob("alice");
+        Job<?, ?> bob = createJob("bob");
+        Job<?, ?> carol = createJob("carol");
+
+        leaderboard.update(alice, createBuild(1), createSummary(50));
+        leaderboard.update(bob, createBuild(1), createSummary(90));
+        leaderboard.update(carol, createBuild(1), createSummary(70));
+
+        assertThat(leaderboard.getEntries(Arrays.asList(alice, bob, carol)))
+                .extracting(Entry::getFullName).containsExactly("bob", "carol", "alice");
+        assertThat(leaderboard.getEntries(Arrays.asList(alice, carol)))
+                .extracting(Entry::getFullName).containsExactly("carol", "alice");
+    }
+
+    @Test
+    void shouldKeepLatestBuild() {
+        Leaderboard leaderboard = new Leaderboard(Collections::emptyList);
+        Job<?, ?> job = createJob("job");
+
+        leaderboard.update(job, createBuild(2), createSummary(80));
+        leaderboard.update(job, createBuild(1), createSummary(10));
+
+        List<Entry> entries = leaderboard.getEntries(Collections.singletonList(job));
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getBuildNumber()).isEqualTo(2);
+        assertThat(entries.get(0).getRatio()).isEqualTo(80);
+
+        leaderboard.update(job, createBuild(3), createSummary(20));
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)).get(0).getBuildNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSeedScoresFromIndexOnlyOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        Leaderboard leaderboard = new Leaderboard(() -> {
+            reads.incrementAndGet();
+            return Arrays.asList(createRecord("job", 1, 60), createRecord("job", 2, 70));
+        });
+
+        Job<?, ?> job = createJob("job");
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)))
+                .extracting(Entry::getBuildNumber, Entry::getRatio).containsExactly(tuple(2, 70));
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)))
+                .extracting(Entry::getBuildNumber).containsExactly(2);
+        assertThat(reads).hasValue(1);
+        verify(job, never()).getLastCompletedBuild();
+    }
+
+    @Test
+    void shouldSkipJobsWithoutScore() {
+        Leaderboard leaderboard = new Leaderboard(() -> Collections.singletonList(createRecord("job", 1, 60)));
+
+        assertThat(leaderboard.getEntries(Collections.singletonList(createJob("empty")))).isEmpty();
+        assertThat(leaderboard.hasScores(Collections.singletonList(createJob("empty")))).isFalse();
+        assertThat(leaderboard.hasScores(Arrays.asList(createJob("empty"), createJob("job")))).isTrue();
+    }
+
+    @Test
+    void shouldReplaceScoreOfDeletedBuild() {
+        List<Record> index = new ArrayList<>(Arrays.asList(createRecord("job", 1, 60), createRecord("job", 2, 70),
+                createRecord("job", 3, 80)));
+        Leaderboard leaderboard = new Leaderboard(() -> index);
+        Job<?, ?> job = createJob("job");
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)))
+                .extracting(Entry::getBuildNumber).containsExactly(3);
+
+        index.remove(2);
+        leaderboard.remove("job", 3);
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)))
+                .extracting(Entry::getBuildNumber).containsExactly(2);
+
+        leaderboard.remove("job", 1);
+        assertThat(leaderboard.getEntries(Collections.singletonList(job)))
+                .extracting(Entry::getBuildNumber).containsExactly(2);
+
+        index.clear();
+        leaderboard.remove("job", 2);
+        assertThat(leaderboard.getEntries(Collections.singletonList(job))).isEmpty();
+    }
+
+    @Test
+    void shouldReloadScoresFromRebuiltIndex() {
+        List<Record> index = new ArrayList<>(Collections.singletonList(createRecord("deleted", 1, 60)));
+        Leaderboard leaderboard = new Leaderboard(() -> index);
+        Job<?, ?> deleted = createJob("deleted");
+        Job<?, ?> old = createJob("old");
+        Job<?, ?> graded = createJob("graded");
+        List<Job<?, ?>> jobs = Arrays.asList(deleted, old, graded);
+
+        assertThat(leaderboard.getEntries(jobs)).extracting(Entry::getFullName).containsExactly("deleted");
+
+        leaderboard.update(graded, createBuild(1), createSummary(50));
+        index.clear();
+        index.addAll(Arrays.asList(createRecord("old", 1, 40), createRecord("old", 2, 90),
+                createRecord("graded", 1, 50)));
+        leaderboard.reload();
+
+        assertThat(leaderboard.getEntries(jobs))
+                .extracting(Entry::getFullName, Entry::getBuildNumber, Entry::getRatio)
+                .containsExactly(tuple("old", 2, 90), tuple("graded", 1, 50));
+        assertThat(leaderboard.hasScores(Collections.singletonList(deleted))).isFalse();
+        assertThat(leaderboard.hasScores(Collections.singletonList(old))).isTrue();
+    }
+
+    @Test
+    void shouldMoveScoreOfRenamedJob() {
+        Leaderboard leaderboard = new Leaderboard(() -> Collections.singletonList(createRecord("folder/old", 3, 70)));
+        Job<?, ?> old = createJob("folder/old");
+        Job<?, ?> renamed = createJob("other/renamed");
+        List<Job<?, ?>> jobs = Arrays.asList(old, renamed);
+
+        leaderboard.rename("folder/old", "other/renamed");
+
+        assertThat(leaderboard.getEntries(jobs))
+                .extracting(Entry::getFullName, Entry::getBuildNumber, Entry::getRatio)
+                .containsExactly(tuple("other/renamed", 3, 70));
+
+        leaderboard.rename("unknown", "folder/old");
+        assertThat(leaderboard.hasScores(Collections.singletonList(old))).isFalse();
+    }
+
+    @Test
+    void shouldComputeStatistics() {
+        Leaderboard leaderboard = new Leaderboard(Collections::emptyList);
+        Job<?, ?>[] jobs = new Job<?, ?>[4];
+        int[] ratios = {40, 10, 30, 20};
+        for (int i = 0; i < jobs.length; i++) {
+            jobs[i] = createJob("job-" + i);
+            leaderboard.update(jobs[i], createBuild(1), createSummary(ratios[i]));
+        }
+
+        ScoreStatistics statistics = new ScoreStatistics(leaderboard.getEntries(Arrays.asList(jobs)));
+        assertThat(statistics.getCount()).isEqualTo(4);
+        assertThat(statistics.getMin()).isEqualTo(10);
+        assertThat(statistics.getMax()).isEqualTo(40);
+        assertThat(statistics.getMean()).isEqualTo(25.0);
+        assertThat(statistics.getMedian()).isEqualTo(20);
+        assertThat(statistics.getPercentile(75)).isEqualTo(30);
+        assertThat(statistics.getPercentile(100)).isEqualTo(40);
+        assertThat(statistics.getPercentile(0)).isEqualTo(10);
+
+        ScoreStatistics empty = new ScoreStatistics(Collections.emptyList());
+        assertThat(empty.getCount()).isZero();
+        assertThat(empty.getMedian()).isZero();
+        assertThat(empty.getMean()).isZero();
+    }
+
+    private Job<?, ?> createJob(final String name) {
+        Job<?, ?> job = mock(Job.class);
+        when(job.getFullName()).thenReturn(name);
+        when(job.getFullDisplayName()).thenReturn(name);
+        when(job.getUrl()).thenReturn("job/" + name + "/");
+        return job;
+    }
+
+    private Run<?, ?> createBuild(final int number) {
+        Run<?, ?> build = mock(Run.class);
+        when(build.getNumber()).thenReturn(number);
+        return build;
+    }
+
+    private Record createRecord(final String job, final int build, final int ratio) {
+        return new Record(job, build, build, 5, 10, ratio, 1, 2, 3, 4);
+    }
+
+    private ScoreSummary createSummary(final int ratio) {
+        AggregatedScore score = mock(AggregatedScore.class);
+        when(score.getRatio()).thenReturn(ratio);
+        return ScoreSummary.of(score);
+    }
+}
@@ -0,0 +1,34 @@
+package io.jenkins.plugins.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.echarts.JacksonFacade;
+import edu.hm.hafner.echarts.PercentagePieChart;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ProgressChartModels}.
+ *
+ * @author Ullrich Hafner
+ */
+class ProgressChartModelsTest {
+    @Test
+    void shouldProvideSameModelsAsPieChart() {
+        JacksonFacade jackson = new JacksonFacade();
+
+        for (int percentage = 0; percentage <= 100; percentage++) {
+            assertThat(ProgressChartModels.get(percentage))
+                    .isEqualTo(jackson.toJson(new PercentagePieChart().create(percentage)))
+                    .isSameAs(ProgressChartModels.get(percentage));
+        }
+    }
+
+    @Test
+    void shouldCreateModelsOutsideOfRange() {
+        JacksonFacade jackson = new JacksonFacade();
+
+        assertThat(ProgressChartModels.get(-1)).isEqualTo(jackson.toJson(new PercentagePieChart().create(-1)));
+        assertThat(ProgressChartModels.get(101)).isEqualTo(jackson.toJson(new PercentagePieChart().create(101)));
+    }
+}
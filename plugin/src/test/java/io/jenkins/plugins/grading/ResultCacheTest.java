@@ -0,0 +1,101 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.TestScore;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link ResultCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class ResultCacheTest {
+    @Test
+    void shouldLoadResultOnlyOnce() {
+        GradingMetrics metrics = mock(GradingMetrics.class);
+        ResultCache cache = new ResultCache(ResultCache.DEFAULT_MAX_SIZE,
+                new GradingMetricsRecorder(Collections.singletonList(metrics)));
+        AggregatedScore score = createScore(0);
+        Supplier<AggregatedScore> loader = createLoader(score);
+
+        assertThat(cache.getResult("job#1", loader)).isSameAs(score);
+        assertThat(cache.getResult("job#1", loader)).isSameAs(score);
+
+        verify(loader).get();
+        verify(metrics).increment(GradingMetrics.RESULT_LOADS);
+        assertThat(cache.getLoads()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEstimatedSize()).isEqualTo(512);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResults() {
+        GradingMetrics metrics = mock(GradingMetrics.class);
+        ResultCache cache = new ResultCache(2000, new GradingMetricsRecorder(Collections.singletonList(metrics)));
+
+        cache.getResult("job#1", createLoader(createScore(3)));
+        cache.getResult("job#2", createLoader(createScore(3)));
+        cache.getResult("job#1", createLoader(createScore(3)));
+        assertThat(cache.getEstimatedSize()).isEqualTo(2 * (512 + 3 * 144));
+
+        cache.getResult("job#3", createLoader(createScore(3)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEstimatedSize()).isEqualTo(2 * (512 + 3 * 144));
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        verify(metrics).increment(GradingMetrics.RESULT_EVICTIONS);
+
+        Supplier<AggregatedScore> reload = createLoader(createScore(3));
+        cache.getResult("job#1", reload);
+        verify(reload, never()).get();
+        cache.getResult("job#2", reload);
+        verify(reload).get();
+    }
+
+    @Test
+    void shouldNotCacheResultsThatExceedMaximumSize() {
+        ResultCache cache = new ResultCache(1000, GradingMetricsRecorder.none());
+        AggregatedScore score = createScore(5);
+
+        assertThat(cache.getResult("job#1", createLoader(score))).isSameAs(score);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEstimatedSize()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateResult() {
+        ResultCache cache = new ResultCache(ResultCache.DEFAULT_MAX_SIZE, GradingMetricsRecorder.none());
+        cache.getResult("job#1", createLoader(createScore(2)));
+
+        cache.invalidate("job#1");
+        cache.invalidate("job#2");
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEstimatedSize()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<AggregatedScore> createLoader(final AggregatedScore score) {
+        Supplier<AggregatedScore> loader = mock(Supplier.class);
+        when(loader.get()).thenReturn(score);
+        return loader;
+    }
+
+    /**
+     * Creates a score with the specified number of test scores. The estimated size of the score is 512 bytes plus 144
+     * bytes for each test score (64 bytes for the score and 40 bytes for each of the missing ID and name).
+     */
+    private AggregatedScore createScore(final int testScores) {
+        AggregatedScore score = mock(AggregatedScore.class);
+        when(score.getTestScores()).thenReturn(Collections.nCopies(testScores, mock(TestScore.class)));
+        return score;
+    }
+}
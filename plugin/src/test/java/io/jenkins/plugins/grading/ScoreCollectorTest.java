@@ -0,0 +1,98 @@
+package io.jenkins.plugins.grading;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.grading.AnalysisConfiguration;
+import edu.hm.hafner.grading.AnalysisScore;
+import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
+import edu.hm.hafner.grading.PitConfiguration;
+import edu.hm.hafner.grading.PitScore;
+import edu.hm.hafner.grading.TestConfiguration;
+import edu.hm.hafner.grading.TestScore;
+import edu.hm.hafner.grading.TestScore.TestScoreBuilder;
+import edu.hm.hafner.util.FilteredLog;
+
+import static io.jenkins.plugins.grading.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ScoreCollector}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreCollectorTest {
+    private static final String CONFIGURATION = "{"
+            + "\"analysis\":{\"maxScore\":100,\"errorImpact\":-10,\"highImpact\":-5,\"normalImpact\":-2,\"lowImpact\":-1},"
+            + "\"tests\":{\"maxScore\":100,\"passedImpact\":1,\"failureImpact\":-5,\"skippedImpact\":-1}}";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger pitInvocations = new AtomicInteger();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCollectSameScoresSequentiallyAndConcurrently() throws InterruptedException {
+        AggregatedScore sequential = collect(ScoreCollector.sequential());
+        AggregatedScore concurrent = collect(new ScoreCollector(executor));
+
+        assertThat(concurrent.getAnalysisScores()).isEqualTo(sequential.getAnalysisScores());
+        assertThat(concurrent.getTestScores()).isEqualTo(sequential.getTestScores());
+        assertThat(concurrent).hasAchieved(sequential.getAchieved()).hasAnalysisAchieved(82).hasTestAchieved(4);
+        assertThat(pitInvocations).hasValue(0);
+    }
+
+    @Test
+    void shouldPropagateExceptionsOfConcurrentSuppliers() {
+        AggregatedScore score = new AggregatedScore(CONFIGURATION, new FilteredLog("Errors"));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new ScoreCollector(executor).collect(score,
+                this::createAnalysisScores,
+                configuration -> {
+                    throw new IllegalArgumentException("Broken test results");
+                },
+                configuration -> Collections.emptyList(),
+                this::createPitScores)).withMessage("Broken test results");
+    }
+
+    private AggregatedScore collect(final ScoreCollector collector) throws InterruptedException {
+        AggregatedScore score = new AggregatedScore(CONFIGURATION, new FilteredLog("Errors"));
+        collector.collect(score, this::createAnalysisScores, this::createTestScores,
+                configuration -> Collections.emptyList(), this::createPitScores);
+        return score;
+    }
+
+    private List<AnalysisScore> createAnalysisScores(final AnalysisConfiguration configuration) {
+        return Collections.singletonList(new AnalysisScoreBuilder().withConfiguration(configuration)
+                .withId("checkstyle")
+                .withDisplayName("CheckStyle")
+                .withTotalErrorsSize(1)
+                .withTotalHighSeveritySize(1)
+                .withTotalNormalSeveritySize(1)
+                .withTotalLowSeveritySize(1)
+                .build());
+    }
+
+    private List<TestScore> createTestScores(final TestConfiguration configuration) {
+        return Collections.singletonList(new TestScoreBuilder().withConfiguration(configuration)
+                .withDisplayName("JUnit")
+                .withTotalSize(10)
+                .withFailedSize(0)
+                .withSkippedSize(3)
+                .build());
+    }
+
+    private List<PitScore> createPitScores(final PitConfiguration configuration) {
+        pitInvocations.incrementAndGet();
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,172 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.util.RunList;
+
+import io.jenkins.plugins.grading.ScoreIndex.Record;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the classes {@link ScoreIndex} and {@link ScoreQuery}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreIndexTest {
+    @Test
+    void shouldReturnEmptyResultIfIndexDoesNotExist() throws IOException {
+        ScoreIndex index = createIndex();
+
+        assertThat(index.query(new ScoreQuery())).isEmpty();
+    }
+
+    @Test
+    void shouldQueryByJobTimeAndScore() throws IOException {
+        ScoreIndex index = createIndex();
+        index.append(createRecord("alice", 1, 300, 50));
+        index.append(createRecord("bob", 1, 100, 90));
+        index.append(createRecord("alice", 2, 200, 70));
+
+        assertThat(index.query(new ScoreQuery()))
+                .extracting(Record::getTimestamp).containsExactly(100L, 200L, 300L);
+        assertThat(index.query(new ScoreQuery().withJob("alice")))
+                .extracting(Record::getBuildNumber).containsExactly(2, 1);
+        assertThat(index.query(new ScoreQuery().withTime(100, 300)))
+                .extracting(Record::getJob).containsExactly("bob", "alice");
+        assertThat(index.query(new ScoreQuery().withRatio(60, 90)))
+                .extracting(Record::getRatio).containsExactly(90, 70);
+    }
+
+    @Test
+    void shouldUseLastRecordOfBuildAndSkipBrokenLines() throws IOException {
+        Path file = Files.createTempDirectory("jenkins").resolve(ScoreIndex.FILE_NAME);
+        ScoreIndex index = new ScoreIndex(file);
+        index.append(createRecord("alice", 1, 100, 50));
+        Files.write(file, Arrays.asList("{\"job\":\"ali", "no json"), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        index.append(createRecord("alice", 1, 100, 80));
+
+        assertThat(index.query(new ScoreQuery())).hasSize(1)
+                .first().extracting(Record::getRatio).isEqualTo(80);
+    }
+
+    @Test
+    void shouldRemoveDeletedBuilds() throws IOException {
+        ScoreIndex index = createIndex();
+        index.append(createRecord("alice", 1, 100, 50));
+        index.append(createRecord("alice", 2, 200, 60));
+
+        index.remove("alice", 1);
+
+        assertThat(index.query(new ScoreQuery())).extracting(Record::getBuildNumber).containsExactly(2);
+    }
+
+    @Test
+    void shouldMoveScoresOfRenamedJob() throws IOException {
+        ScoreIndex index = createIndex();
+        index.append(createRecord("folder/old", 1, 100, 50));
+        index.append(createRecord("bob", 1, 150, 90));
+        index.append(createRecord("folder/old", 2, 200, 60));
+
+        index.rename("folder/old", "other/renamed");
+
+        assertThat(index.query(new ScoreQuery()))
+                .extracting(Record::getJob, Record::getBuildNumber, Record::getRatio)
+                .containsExactly(tuple("other/renamed", 1, 50), tuple("bob", 1, 90), tuple("other/renamed", 2, 60));
+        assertThat(index.query(new ScoreQuery().withJob("folder/old"))).isEmpty();
+
+        index.append(createRecord("other/renamed", 3, 300, 70));
+        assertThat(index.query(new ScoreQuery().withJob("other/renamed")))
+                .extracting(Record::getBuildNumber).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldCompactIndexFileAfterConfiguredNumberOfAppends() throws IOException {
+        Path file = Files.createTempDirectory("jenkins").resolve(ScoreIndex.FILE_NAME);
+        ScoreIndex index = new ScoreIndex(file, 4);
+        index.append(createRecord("alice", 1, 100, 50));
+        index.append(createRecord("alice", 1, 100, 60));
+        index.append(createRecord("alice", 2, 200, 70));
+        assertThat(Files.readAllLines(file)).hasSize(3);
+
+        index.remove("alice", 2);
+
+        assertThat(Files.readAllLines(file)).hasSize(1);
+        assertThat(index.query(new ScoreQuery()))
+                .extracting(Record::getBuildNumber, Record::getRatio).containsExactly(tuple(1, 60));
+
+        index.append(createRecord("alice", 3, 300, 80));
+        assertThat(Files.readAllLines(file)).hasSize(2);
+    }
+
+    @Test
+    void shouldRebuildIndexFromResultsOfBuilds() throws IOException {
+        ScoreIndex index = createIndex();
+        index.append(createRecord("alice", 7, 700, 10));
+        index.append(createRecord("bob", 1, 100, 90));
+
+        AutoGradingBuildAction action = mock(AutoGradingBuildAction.class);
+        when(action.getSummary()).thenReturn(createSummary(60));
+        Job<?, ?> alice = createJob("alice", createBuild(3, 300, null), createBuild(2, 200, action));
+
+        assertThat(index.rebuild(Collections.singletonList(alice), false)).isEqualTo(1);
+        assertThat(index.query(new ScoreQuery()))
+                .extracting(Record::getJob, Record::getBuildNumber, Record::getRatio)
+                .containsExactly(tuple("bob", 1, 90), tuple("alice", 2, 60));
+
+        assertThat(index.rebuild(Collections.singletonList(alice), true)).isEqualTo(1);
+        assertThat(index.query(new ScoreQuery())).extracting(Record::getJob).containsExactly("alice");
+    }
+
+    @Test
+    void shouldConvertRecordToCsv() {
+        assertThat(createRecord("a \"b\"", 1, 100, 50).toCsv())
+                .isEqualTo("\"a \"\"b\"\"\",1,100,5,10,50,1,2,3,4");
+    }
+
+    private ScoreIndex createIndex() throws IOException {
+        return new ScoreIndex(Files.createTempDirectory("jenkins").resolve(ScoreIndex.FILE_NAME));
+    }
+
+    private Record createRecord(final String job, final int build, final long timestamp, final int ratio) {
+        return new Record(job, build, timestamp, 5, 10, ratio, 1, 2, 3, 4);
+    }
+
+    private Job<?, ?> createJob(final String name, final Run<?, ?>... builds) {
+        Job<?, ?> job = mock(Job.class);
+        when(job.getFullName()).thenReturn(name);
+        doReturn(RunList.fromRuns(Arrays.asList(builds))).when(job).getBuilds();
+        for (Run<?, ?> build : builds) {
+            doReturn(job).when(build).getParent();
+        }
+        return job;
+    }
+
+    private Run<?, ?> createBuild(final int number, final long timestamp, final AutoGradingBuildAction action) {
+        Run<?, ?> build = mock(Run.class);
+        when(build.getNumber()).thenReturn(number);
+        when(build.getTimeInMillis()).thenReturn(timestamp);
+        when(build.getAction(AutoGradingBuildAction.class)).thenReturn(action);
+        return build;
+    }
+
+    private ScoreSummary createSummary(final int ratio) {
+        AggregatedScore score = mock(AggregatedScore.class);
+        when(score.getRatio()).thenReturn(ratio);
+        return ScoreSummary.of(score);
+    }
+}
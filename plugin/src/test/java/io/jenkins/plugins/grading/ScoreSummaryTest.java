@@ -0,0 +1,46 @@
+package io.jenkins.plugins.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.SerializableTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ScoreSummary}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreSummaryTest extends SerializableTest<ScoreSummary> {
+    @Override
+    protected ScoreSummary createSerializable() {
+        return ScoreSummary.of(readScore());
+    }
+
+    @Test
+    void shouldSummarizeAllCategories() {
+        AggregatedScore score = readScore();
+
+        ScoreSummary summary = ScoreSummary.of(score);
+
+        assertThat(summary.getAchieved()).isEqualTo(score.getAchieved());
+        assertThat(summary.getTotal()).isEqualTo(score.getTotal());
+        assertThat(summary.getRatio()).isEqualTo(score.getRatio());
+        assertThat(summary.getAnalysisAchieved()).isEqualTo(79);
+        assertThat(summary.getAnalysisRatio()).isEqualTo(score.getAnalysisRatio());
+        assertThat(summary.getTestAchieved()).isEqualTo(60);
+        assertThat(summary.getTestRatio()).isEqualTo(score.getTestRatio());
+        assertThat(summary.getCoverageAchieved()).isEqualTo(78);
+        assertThat(summary.getCoverageRatio()).isEqualTo(score.getCoverageRatio());
+        assertThat(summary.getPitAchieved()).isEqualTo(73);
+        assertThat(summary.getPitRatio()).isEqualTo(score.getPitRatio());
+
+        assertThat(summary).isEqualTo(ScoreSummary.of(score)).hasSameHashCodeAs(ScoreSummary.of(score));
+        assertThat(summary).isNotEqualTo(ScoreSummary.of(new AggregatedScore()));
+    }
+
+    private AggregatedScore readScore() {
+        return new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml"));
+    }
+}
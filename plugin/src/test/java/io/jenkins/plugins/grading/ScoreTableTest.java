@@ -0,0 +1,100 @@
+package io.jenkins.plugins.grading;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.hm.hafner.grading.AggregatedScore;
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ScoreTable}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreTableTest extends ResourceTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldProvideRequestedWindowOfRows() throws IOException {
+        ScoreTable table = ScoreTable.create("analysis", readScore());
+
+        assertThat(table.size()).isEqualTo(8);
+        assertThat(table.getColumns()).containsExactly("name", "errors", "high", "normal", "low", "total", "impact");
+
+        JsonNode page = MAPPER.readTree(table.getRows(3, 2, 3, "", null, true));
+        assertThat(page.get("draw").asInt()).isEqualTo(3);
+        assertThat(page.get("recordsTotal").asInt()).isEqualTo(8);
+        assertThat(page.get("recordsFiltered").asInt()).isEqualTo(8);
+        assertThat(page.get("data")).hasSize(3);
+        assertThat(page.get("data").get(0).get("url").asText()).startsWith("../");
+
+        JsonNode all = MAPPER.readTree(table.getRows(1, 0, -1, null, null, true));
+        assertThat(all.get("data")).hasSize(8);
+
+        JsonNode outside = MAPPER.readTree(table.getRows(1, 100, 10, null, null, true));
+        assertThat(outside.get("data")).isEmpty();
+    }
+
+    @Test
+    void shouldSortRowsByColumn() throws IOException {
+        ScoreTable table = ScoreTable.create("analysis", readScore());
+
+        List<Integer> ascending = getValues(table.getRows(1, 0, -1, "", "total", true), "total");
+        assertThat(ascending).isSorted();
+
+        List<Integer> descending = getValues(table.getRows(1, 0, -1, "", "total", false), "total");
+        assertThat(descending).isSortedAccordingTo(Comparator.reverseOrder());
+
+        assertThat(getValues(table.getRows(1, 0, -1, "", "url", true), "total"))
+                .as("Only visible columns can be sorted")
+                .isEqualTo(getValues(table.getRows(1, 0, -1, "", null, true), "total"));
+    }
+
+    @Test
+    void shouldFilterRows() throws IOException {
+        ScoreTable table = ScoreTable.create("analysis", readScore());
+        JsonNode first = MAPPER.readTree(table.getRows(1, 0, 1, "", "name", true)).get("data").get(0);
+        String name = first.get("name").asText();
+
+        JsonNode page = MAPPER.readTree(table.getRows(1, 0, -1, name.toUpperCase(), "name", true));
+
+        assertThat(page.get("recordsTotal").asInt()).isEqualTo(8);
+        assertThat(page.get("recordsFiltered").asInt()).isPositive();
+        for (JsonNode row : page.get("data")) {
+            assertThat(row.toString().toLowerCase()).contains(name.toLowerCase());
+        }
+    }
+
+    @Test
+    void shouldCreateAllTables() {
+        AggregatedScore score = readScore();
+
+        assertThat(ScoreTable.create("tests", score).size()).isEqualTo(1);
+        assertThat(ScoreTable.create("coverage", score).size()).isEqualTo(2);
+        assertThat(ScoreTable.create("pit", score).size()).isEqualTo(1);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> ScoreTable.create("nope", score));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> ScoreTable.create(null, score));
+    }
+
+    private List<Integer> getValues(final String json, final String column) throws IOException {
+        List<Integer> values = new ArrayList<>();
+        for (JsonNode row : MAPPER.readTree(json).get("data")) {
+            values.add(row.get(column).asInt());
+        }
+        return values;
+    }
+
+    private AggregatedScore readScore() {
+        return new AggregatedScoreXmlStream().read(getResourceAsFile("auto-grading.xml"));
+    }
+}
@@ -0,0 +1,106 @@
+package io.jenkins.plugins.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.AggregatedScore;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+import io.jenkins.plugins.grading.ScoreTrendCache.BuildScore;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link ScoreTrendCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScoreTrendCacheTest {
+    private static final ScoreSummary SUMMARY = ScoreSummary.of(new AggregatedScore());
+
+    private final List<Run<?, ?>> builds = new ArrayList<>();
+    private final Job<?, ?> job = mock(Job.class);
+
+    @Test
+    void shouldReturnEmptyTrendForJobWithoutBuilds() {
+        ScoreTrendCache cache = new ScoreTrendCache(10);
+
+        assertThat(cache.getScores(job)).isEmpty();
+    }
+
+    @Test
+    void shouldVisitOnlyNewBuilds() {
+        ScoreTrendCache cache = new ScoreTrendCache(10);
+        addBuild(true, false);
+        addBuild(false, false);
+        addBuild(true, false);
+
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(1, 3);
+
+        addBuild(true, false);
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(1, 3, 4);
+
+        for (Run<?, ?> build : builds.subList(0, 3)) {
+            verify(build, times(1)).getAction(AutoGradingBuildAction.class);
+        }
+    }
+
+    @Test
+    void shouldVisitRunningBuildsAgain() {
+        ScoreTrendCache cache = new ScoreTrendCache(10);
+        addBuild(true, false);
+        Run<?, ?> running = addBuild(false, true);
+
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(1);
+
+        when(running.isBuilding()).thenReturn(false);
+        AutoGradingBuildAction action = createAction();
+        when(running.getAction(AutoGradingBuildAction.class)).thenReturn(action);
+
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(1, 2);
+        assertThat(cache.getScores(job).get(1).getSummary()).isSameAs(SUMMARY);
+    }
+
+    @Test
+    void shouldLimitNumberOfBuilds() {
+        ScoreTrendCache cache = new ScoreTrendCache(2);
+        addBuild(true, false);
+        addBuild(true, false);
+        addBuild(true, false);
+
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(2, 3);
+        verify(builds.get(0), never()).getAction(AutoGradingBuildAction.class);
+
+        addBuild(true, false);
+        assertThat(cache.getScores(job)).extracting(BuildScore::getNumber).containsExactly(3, 4);
+    }
+
+    private Run<?, ?> addBuild(final boolean hasAction, final boolean isBuilding) {
+        Run<?, ?> build = mock(Run.class);
+        int number = builds.size() + 1;
+        when(build.getNumber()).thenReturn(number);
+        when(build.getDisplayName()).thenReturn("#" + number);
+        when(build.isBuilding()).thenReturn(isBuilding);
+        if (hasAction) {
+            AutoGradingBuildAction action = createAction();
+            when(build.getAction(AutoGradingBuildAction.class)).thenReturn(action);
+        }
+        if (!builds.isEmpty()) {
+            doReturn(builds.get(builds.size() - 1)).when(build).getPreviousBuild();
+        }
+        builds.add(build);
+        doReturn(build).when(job).getLastBuild();
+        return build;
+    }
+
+    private AutoGradingBuildAction createAction() {
+        AutoGradingBuildAction action = mock(AutoGradingBuildAction.class);
+        when(action.getSummary()).thenReturn(SUMMARY);
+        return action;
+    }
+}